@@ -0,0 +1,81 @@
+package com.project.board.infra.mail;
+
+import com.project.board.infra.config.AppProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스터디 알림처럼 같은 메일을 여러 수신자에게 보낼 때 본문을 만드는 비용 비교
+ *  - thymeleafPerRecipient : 수신자마다 templateEngine.process 호출(이전 방식)
+ *  - linkMailTemplate : 이벤트마다 bind 한 번, 수신자마다 LinkMailBody.render 호출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LinkMailTemplateBenchmark {
+
+    private static final String HOST = "http://localhost:8080";
+    private static final String LINK = "/study/spring-boot";
+    private static final String LINK_NAME = "스터디 바로가기";
+    private static final String MESSAGE = "관심있는 스터디 'Spring Boot <입문>'이 공개되었습니다.";
+
+    @Param({"1", "100", "1000"})
+    private int recipients;
+
+    private TemplateEngine templateEngine;
+    private LinkMailTemplate linkMailTemplate;
+    private String[] nicknames;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        AppProperties appProperties = new AppProperties();
+        appProperties.setHost(HOST);
+        linkMailTemplate = new LinkMailTemplate(templateEngine, appProperties);
+        nicknames = new String[recipients];
+        for (int i = 0; i < recipients; i++) {
+            nicknames[i] = "member" + i;
+        }
+        linkMailTemplate.render(nicknames[0], LINK, LINK_NAME, MESSAGE); // 조각 나누기는 측정에서 제외
+    }
+
+    @Benchmark
+    public void thymeleafPerRecipient(Blackhole blackhole) {
+        for (String nickname : nicknames) {
+            Context context = new Context();
+            context.setVariable("nickname", nickname);
+            context.setVariable("link", LINK);
+            context.setVariable("linkName", LINK_NAME);
+            context.setVariable("message", MESSAGE);
+            context.setVariable("host", HOST);
+            blackhole.consume(templateEngine.process("mail/simple-link", context));
+        }
+    }
+
+    @Benchmark
+    public void linkMailTemplate(Blackhole blackhole) {
+        LinkMailTemplate.LinkMailBody mailBody = linkMailTemplate.bind(LINK, LINK_NAME, MESSAGE);
+        for (String nickname : nicknames) {
+            blackhole.consume(mailBody.render(nickname));
+        }
+    }
+}
@@ -2,9 +2,10 @@ package com.project.board;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.session.SessionAutoConfiguration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-@SpringBootApplication
+@SpringBootApplication(exclude = SessionAutoConfiguration.class) // 세션 저장소는 SessionConfig(app.session.store)로 선택
 @EnableJpaAuditing
 public class App {
 
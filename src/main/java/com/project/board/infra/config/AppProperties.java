@@ -9,4 +9,70 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties("app")
 public class AppProperties {
     private String host;
+    private Async async = new Async();
+    private Session session = new Session();
+
+    /**
+     * 비동기 작업용 스레드 풀 설정(app.async.*)
+     *  - common : @Async 기본 스레드 풀
+     *  - mail : 메일 발송(MailDispatcher)
+     *  - notification : 알림 처리(OutboxRelay)
+     */
+    @Data
+    public static class Async {
+        private Pool common = new Pool();
+        private Pool mail = new Pool();
+        private Pool notification = new Pool();
+    }
+
+    /**
+     * corePoolSize, maxPoolSize를 지정하지 않으면 CPU 코어 수, CPU 코어 수 * 2 사용
+     */
+    @Data
+    public static class Pool {
+        private Integer corePoolSize;
+        private Integer maxPoolSize;
+        private int queueCapacity = 50;
+        private int keepAliveSeconds = 60;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+        private long blockTimeoutMs = 1000;
+    }
+
+    /**
+     * 큐가 가득 찼을 때 새 작업을 처리하는 방식
+     *  - CALLER_RUNS : 작업을 요청한 스레드에서 직접 실행
+     *  - BLOCK : 큐에 자리가 날 때까지 blockTimeoutMs 동안 기다리고, 그래도 자리가 없으면 거절
+     *  - SPILL : 바로 거절(TaskRejectedException), 요청한 쪽은 작업을 저장소(outbox 테이블, 메일 스풀)에 남겨두고 다음 주기에 다시 처리
+     */
+    public enum RejectionPolicy {
+        CALLER_RUNS, BLOCK, SPILL
+    }
+
+    /**
+     * 세션 저장소 설정(app.session.*), SessionConfig 참고
+     *  - store : none(서블릿 컨테이너 메모리 세션) 또는 jdbc(DB에 저장해서 여러 서버가 세션 공유)
+     *  - flush : 요청이 끝날 때 세션을 DB에 반영하는 방식
+     *  - touchIntervalSeconds : LAZY일 때 마지막 접근 시각만 바뀐 세션을 다시 저장하는 최소 간격
+     *  - nearCacheTtlSeconds : 서버마다 두는 세션 캐시의 유지 시간, 0이면 캐시하지 않음
+     *    다른 서버에서 변경, 삭제(로그아웃)한 세션이 이 시간 동안은 이전 상태로 보일 수 있으므로 짧게 유지
+     */
+    @Data
+    public static class Session {
+        private String store = "none";
+        private FlushPolicy flush = FlushPolicy.LAZY;
+        private long touchIntervalSeconds = 60;
+        private long nearCacheTtlSeconds = 5;
+        private long nearCacheMaximumSize = 10_000;
+        private boolean initializeSchema = true;
+    }
+
+    /**
+     * 세션 반영 방식
+     *  - WRITE_THROUGH : 요청마다 DB에 반영(속성이 바뀌지 않아도 마지막 접근 시각을 갱신)
+     *  - LAZY : 속성이 바뀐 경우에만 바로 반영하고, 마지막 접근 시각은 touchIntervalSeconds가 지났을 때만 갱신
+     *           DB의 만료 시각이 실제보다 최대 touchIntervalSeconds만큼 빠를 수 있으므로 세션 timeout보다 충분히 작게 설정
+     */
+    public enum FlushPolicy {
+        WRITE_THROUGH, LAZY
+    }
 }
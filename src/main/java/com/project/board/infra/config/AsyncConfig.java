@@ -1,10 +1,12 @@
 package com.project.board.infra.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 /**
@@ -19,11 +21,19 @@ import java.util.concurrent.Executor;
  *
  * 주요 로직에 영향을 주어선 안 됨
  *  - 알림 처리 로직 분리
+ *
+ * 스레드 풀 설정은 AppProperties(app.async.common, app.async.mail, app.async.notification)로 지정
+ * 메일 발송과 알림 처리는 서로 영향을 주지 않도록 스레드 풀을 나눠서 사용
  */
 @Configuration
 @EnableAsync // 비동기 처리를 위한 기본 설정 제공
 @Slf4j
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer { // AsyncConfigurer를 구현하여 커스텀 설정 추가
+
+    private final AppProperties appProperties;
+    private final ObjectProvider<VirtualThreadExecutor> virtualThreadExecutor; // 가상 스레드 모드일 때만 존재(VirtualThreadConfig)
+
     /**
      * 스레드 풀 ?
      * 스레드를 미리 생성하고, 작업 요청이 발생할 때 마다 미리 생성된 스레드로 해당 작업을 처리하는 방식
@@ -39,19 +49,26 @@ public class AsyncConfig implements AsyncConfigurer { // AsyncConfigurer를 구
      * 현재 일하고 있는 쓰레드 개수(active thread)가 코어 개수(core pool size)보다 작으면 남아있는 쓰레드를 사용
      * 현재 일하고 있는 쓰레드 개수가 코어 개수만큼 차있으면 큐 용량(queue capacity)이 찰때까지 큐에 쌓아둠
      * 큐 용량이 다 차면, 코어 개수를 넘어서 맥스 개수(max pool size)에 다르기 전까지 새로운 쓰레드를 만들어 처리
-     * 맥스 개수를 넘기면 태스크를 처리하지 못함
+     * 맥스 개수를 넘기면 RejectionPolicy에 따라 처리(요청한 스레드에서 실행, 일정 시간 대기, 거절 후 저장소에 남겨둠)
      */
     @Override
     public Executor getAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        int processors = Runtime.getRuntime().availableProcessors();
-        log.info("processor count {}", processors);
-        executor.setCorePoolSize(processors);
-        executor.setMaxPoolSize(processors * 2);
-        executor.setQueueCapacity(50);
-        executor.setKeepAliveSeconds(60);
-        executor.setThreadNamePrefix("AsyncExecutor-");
-        executor.initialize();
-        return executor;
+        VirtualThreadExecutor executor = virtualThreadExecutor.getIfAvailable();
+        return executor != null ? executor : asyncExecutor();
+    }
+
+    @Bean
+    public MonitoredTaskExecutor asyncExecutor() {
+        return new MonitoredTaskExecutor("AsyncExecutor", appProperties.getAsync().getCommon());
+    }
+
+    @Bean
+    public MonitoredTaskExecutor mailExecutor() {
+        return new MonitoredTaskExecutor("MailExecutor", appProperties.getAsync().getMail());
+    }
+
+    @Bean
+    public MonitoredTaskExecutor notificationExecutor() {
+        return new MonitoredTaskExecutor("NotificationExecutor", appProperties.getAsync().getNotification());
     }
 }
@@ -0,0 +1,50 @@
+package com.project.board.infra.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 캐시 설정
+ *
+ * 기본은 Caffeine을 이용한 로컬(in-process) 캐시
+ * spring.cache.type을 redis 등으로 지정하면 이 빈은 등록되지 않고 스프링 부트가 해당 저장소의 CacheManager를 구성(분산 캐시로 교체 가능)
+ *
+ * recordStats로 적중/실패 횟수를 기록하면 Actuator(cache.gets 메트릭)로 확인 가능
+ * 트랜잭션 안에서 발생한 캐시 삭제(evict)는 TransactionAwareCacheManagerProxy로 커밋 이후에 반영
+ *
+ * ACCOUNT_CREDENTIALS는 로그인마다 조회하는 계정 인증 정보, 비밀번호를 다루므로 다른 캐시보다 짧게 유지(app.cache.credentials-ttl-seconds)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STUDY_VIEW = "studyView";
+    public static final String ACCOUNT_CREDENTIALS = "accountCredentials";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "caffeine", matchIfMissing = true)
+    public CacheManager cacheManager(@Value("${app.cache.credentials-ttl-seconds:60}") long credentialsTtlSeconds) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats());
+        cacheManager.setCacheNames(List.of(STUDY_VIEW));
+        cacheManager.registerCustomCache(ACCOUNT_CREDENTIALS, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(credentialsTtlSeconds))
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
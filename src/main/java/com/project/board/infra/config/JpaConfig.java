@@ -0,0 +1,26 @@
+package com.project.board.infra.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC batch 설정
+ *
+ * 알림처럼 한 번에 많은 row를 저장하는 경우 insert를 batch_size개씩 묶어서 전송
+ * IDENTITY 전략은 insert 시점에 id를 받아와야 해서 batch가 동작하지 않으므로 batch 대상 엔티티는 시퀀스(pooled) 전략 사용
+ * MySQL은 JDBC URL에 rewriteBatchedStatements=true를 추가해야 multi-row insert로 전송됨
+ */
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${app.jpa.batch-size:100}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
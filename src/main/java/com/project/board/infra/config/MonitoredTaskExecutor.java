@@ -0,0 +1,121 @@
+package com.project.board.infra.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AppProperties.Pool 설정으로 만드는 스레드 풀, 상태를 Micrometer 메트릭으로 노출
+ *
+ * 메트릭(name 태그로 스레드 풀 구분)
+ *  - executor.pool.size, executor.active, executor.queued, executor.queue.remaining, executor.completed : 스레드 풀 상태
+ *  - executor.rejected : 큐가 가득 차서 거절(또는 요청한 스레드에서 실행)된 작업 수
+ *  - executor.idle : 작업이 큐에서 기다린 시간
+ *  - executor.execution : 작업 실행 시간
+ * MeterBinder 빈이므로 MeterRegistry가 만들어진 뒤 자동으로 등록됨
+ */
+@Slf4j
+public class MonitoredTaskExecutor extends ThreadPoolTaskExecutor implements MeterBinder {
+
+    private final String name;
+    private volatile Counter rejected;
+    private volatile Timer idle;
+    private volatile Timer execution;
+
+    public MonitoredTaskExecutor(String name, AppProperties.Pool pool) {
+        this.name = name;
+        int processors = Runtime.getRuntime().availableProcessors();
+        setCorePoolSize(pool.getCorePoolSize() != null ? pool.getCorePoolSize() : processors);
+        setMaxPoolSize(pool.getMaxPoolSize() != null ? pool.getMaxPoolSize() : processors * 2);
+        setQueueCapacity(pool.getQueueCapacity());
+        setKeepAliveSeconds(pool.getKeepAliveSeconds());
+        setThreadNamePrefix(name + "-");
+        setRejectedExecutionHandler(rejectionHandler(pool));
+        setTaskDecorator(this::timed);
+        setWaitForTasksToCompleteOnShutdown(true);
+        setAwaitTerminationSeconds(10);
+        log.info("{} executor: core {}, max {}, queue {}, rejection {}", name, getCorePoolSize(), getMaxPoolSize(),
+                pool.getQueueCapacity(), pool.getRejectionPolicy());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("name", name);
+        new ExecutorServiceMetrics(getThreadPoolExecutor(), name, Tags.empty()).bindTo(registry);
+        rejected = Counter.builder("executor.rejected").tags(tags)
+                .description("큐가 가득 차서 거절된 작업 수")
+                .register(registry);
+        idle = Timer.builder("executor.idle").tags(tags)
+                .description("작업이 큐에서 기다린 시간")
+                .register(registry);
+        execution = Timer.builder("executor.execution").tags(tags)
+                .description("작업 실행 시간")
+                .register(registry);
+    }
+
+    private Runnable timed(Runnable task) {
+        long submitted = System.nanoTime();
+        return () -> {
+            long started = System.nanoTime();
+            Timer idle = this.idle;
+            if (idle != null) {
+                idle.record(started - submitted, TimeUnit.NANOSECONDS);
+            }
+            try {
+                task.run();
+            } finally {
+                Timer execution = this.execution;
+                if (execution != null) {
+                    execution.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            }
+        };
+    }
+
+    private RejectedExecutionHandler rejectionHandler(AppProperties.Pool pool) {
+        RejectedExecutionHandler handler;
+        switch (pool.getRejectionPolicy()) {
+            case BLOCK:
+                handler = (task, executor) -> block(task, executor, pool.getBlockTimeoutMs());
+                break;
+            case SPILL:
+                handler = (task, executor) -> {
+                    throw new RejectedExecutionException(name + " executor queue is full");
+                };
+                break;
+            default:
+                handler = new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        return (task, executor) -> {
+            Counter rejected = this.rejected;
+            if (rejected != null) {
+                rejected.increment();
+            }
+            handler.rejectedExecution(task, executor);
+        };
+    }
+
+    private void block(Runnable task, ThreadPoolExecutor executor, long timeoutMillis) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException(name + " executor is shut down");
+        }
+        try {
+            if (!executor.getQueue().offer(task, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException(name + " executor queue is full for " + timeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(name + " executor was interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.board.infra.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기적으로 실행되어야 하는 작업(조회수 반영, outbox 처리 등)을 위한 스케줄링 설정
+ *
+ * 기본 스케줄러는 스레드가 하나라서 outbox 처리가 길어지면 다른 작업이 밀리므로 스레드 수를 늘림
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public TaskSchedulerCustomizer taskSchedulerPoolSizeCustomizer(@Value("${app.scheduling.pool-size:4}") int poolSize) {
+        return taskScheduler -> taskScheduler.setPoolSize(poolSize);
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.board.infra.config;
+
+import com.project.board.infra.session.NearCacheSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.session.JdbcSessionDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.session.JdbcSessionProperties;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.FlushMode;
+import org.springframework.session.SaveMode;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+import javax.servlet.DispatcherType;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+
+/**
+ * DB 세션 저장소(app.session.store=jdbc)
+ *
+ * 서블릿 컨테이너 메모리 세션은 서버마다 따로 있으므로 서버를 늘리면 sticky session이 필요함
+ * 세션을 DB(SPRING_SESSION 테이블)에 저장하면 어느 서버에서든 같은 로그인 상태를 사용할 수 있음
+ *  - 세션에는 SecurityContext와 UserAccount(계정 값만 보관하는 불변 객체)만 저장되므로 직렬화 크기가 작음
+ *  - 요청마다 DB를 조회하지 않도록 NearCacheSessionRepository를 앞에 두고, 반영 방식은 app.session.flush로 선택
+ *  - RememberMe 토큰은 이미 persistent_logins 테이블에 저장하므로 그대로 사용
+ *
+ * 스프링 부트의 세션 자동 설정(spring.session.*)은 App에서 제외하고 이 설정만 사용
+ * 세션 유지 시간은 server.servlet.session.timeout, 테이블은 app.session.initialize-schema=true면 시작할 때 생성(이미 있으면 무시)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.session", name = "store", havingValue = "jdbc")
+@EnableJdbcHttpSession
+public class SessionConfig {
+
+    // 스프링 부트와 같이 단위가 없는 server.servlet.session.timeout 값은 초 단위로 해석(1800 = 30분)
+    @Bean
+    public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> jdbcSessionRepositoryCustomizer(
+            @Value("${server.servlet.session.timeout:30m}") String timeout) {
+        Duration maxInactiveInterval = DurationStyle.detectAndParse(timeout, ChronoUnit.SECONDS);
+        return repository -> {
+            repository.setDefaultMaxInactiveInterval((int) maxInactiveInterval.getSeconds());
+            repository.setFlushMode(FlushMode.ON_SAVE);
+            repository.setSaveMode(SaveMode.ON_SET_ATTRIBUTE); // NearCacheSessionRepository가 바뀐 속성만 전달
+        };
+    }
+
+    @Bean
+    @Primary
+    public NearCacheSessionRepository<?> nearCacheSessionRepository(JdbcIndexedSessionRepository jdbcIndexedSessionRepository,
+                                                                    JdbcTemplate jdbcTemplate, AppProperties appProperties) {
+        return new NearCacheSessionRepository<>(jdbcIndexedSessionRepository, jdbcTemplate,
+                JdbcIndexedSessionRepository.DEFAULT_TABLE_NAME, appProperties.getSession());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.session", name = "initialize-schema", havingValue = "true", matchIfMissing = true)
+    public JdbcSessionDataSourceScriptDatabaseInitializer jdbcSessionSchemaInitializer(DataSource dataSource) {
+        JdbcSessionProperties properties = new JdbcSessionProperties();
+        properties.setInitializeSchema(DatabaseInitializationMode.ALWAYS);
+        return new JdbcSessionDataSourceScriptDatabaseInitializer(dataSource, properties);
+    }
+
+    // 스프링 시큐리티 필터보다 먼저 실행되어야 하고, 에러 페이지, 비동기 요청에서도 같은 세션을 사용
+    @Bean
+    public FilterRegistrationBean<SessionRepositoryFilter<?>> sessionRepositoryFilterRegistration(
+            SessionRepositoryFilter<?> springSessionRepositoryFilter) {
+        FilterRegistrationBean<SessionRepositoryFilter<?>> registration = new FilterRegistrationBean<>(springSessionRepositoryFilter);
+        registration.setDispatcherTypes(EnumSet.of(DispatcherType.ASYNC, DispatcherType.ERROR, DispatcherType.REQUEST));
+        registration.setOrder(SessionRepositoryFilter.DEFAULT_ORDER);
+        return registration;
+    }
+}
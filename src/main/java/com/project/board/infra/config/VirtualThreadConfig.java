@@ -0,0 +1,54 @@
+package com.project.board.infra.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * 가상 스레드 실행 모드(app.virtual-threads.enabled=true)
+ *
+ * JPA, SMTP, remember-me 토큰 조회 등 I/O가 모두 blocking이므로 요청 처리 스레드가 I/O를 기다리는 동안 묶여 있음
+ * 가상 스레드는 blocking I/O를 기다리는 동안 OS 스레드를 반납하므로 동시 요청이 많을 때 스레드 수에 막히지 않음
+ *  - Tomcat 요청 처리 : 커넥터의 스레드 풀 대신 가상 스레드 사용
+ *  - @Async 기본 Executor : AsyncConfig가 가상 스레드 Executor를 사용
+ * 메일(mailExecutor), 알림(notificationExecutor) 스레드 풀은 SMTP 서버와 DB에 주는 부하를 제한하기 위한 것이므로 그대로 사용
+ *
+ * Java 21 이상에서 실행할 때만 적용되고, 그 외에는 경고 로그를 남기고 기존 스레드 풀을 사용
+ * synchronized 블록 안에서 blocking I/O를 하면 가상 스레드가 OS 스레드에 고정(pinning)되므로 새 코드에서는 ReentrantLock 사용
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.virtual-threads.enabled", havingValue = "true")
+@Conditional(VirtualThreadConfig.OnVirtualThreadSupport.class)
+public class VirtualThreadConfig {
+
+    @Bean
+    public VirtualThreadExecutor virtualThreadExecutor() {
+        log.info("virtual thread mode enabled");
+        return VirtualThreadExecutor.create();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(VirtualThreadExecutor virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor.getExecutorService());
+    }
+
+    static class OnVirtualThreadSupport extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            if (VirtualThreadExecutor.isSupported()) {
+                return ConditionOutcome.match("virtual threads are supported");
+            }
+            log.warn("app.virtual-threads.enabled is set but Java {} does not support virtual threads", Runtime.version());
+            return ConditionOutcome.noMatch("virtual threads are not supported on Java " + Runtime.version());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.board.infra.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업마다 가상 스레드(virtual thread)를 만들어 실행하는 Executor
+ *
+ * 프로젝트는 Java 11로 컴파일하므로 Executors.newVirtualThreadPerTaskExecutor()를 리플렉션으로 호출
+ * Java 21 이상에서 실행할 때만 사용할 수 있음(isSupported)
+ */
+public class VirtualThreadExecutor implements TaskExecutor, DisposableBean {
+
+    private final ExecutorService executorService;
+
+    private VirtualThreadExecutor(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public static boolean isSupported() {
+        try {
+            newExecutorService().shutdown();
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    public static VirtualThreadExecutor create() {
+        return new VirtualThreadExecutor(newExecutorService());
+    }
+
+    private static ExecutorService newExecutorService() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException | UnsupportedOperationException e) {
+            throw new IllegalStateException("가상 스레드를 지원하지 않는 Java 버전입니다: " + Runtime.version(), e);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executorService.execute(task);
+    }
+
+    // Tomcat 커넥터처럼 java.util.concurrent.Executor를 받는 곳에 전달
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -28,6 +28,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .flatMap(StaticResourceLocation::getPatterns)
                 .collect(Collectors.toList());
         staticResourcesPath.add("/node_modules/**");
+        staticResourcesPath.add("/images/**");
         registry.addInterceptor(notificationInterceptor)
                 .excludePathPatterns(staticResourcesPath);
     }
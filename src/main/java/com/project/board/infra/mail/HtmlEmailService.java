@@ -3,15 +3,11 @@ package com.project.board.infra.mail;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
-
 // EmailService를 구현하여 메일을 전송하는 클래스
+// 호출한 스레드에서 SMTP로 보내지 않고 스풀에 저장한 뒤 MailDispatcher가 비동기로 발송
 @Profile("!dev")
 @Service
 @Component
@@ -19,22 +15,11 @@ import javax.mail.internet.MimeMessage;
 @Slf4j
 public class HtmlEmailService implements EmailService {
 
-    private final JavaMailSender javaMailSender;
+    private final MailDispatcher mailDispatcher;
 
     @Override
     public void sendEmail(EmailMessage emailMessage) {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        MimeMessageHelper mimeMessageHelper;
-        try {
-            mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            mimeMessageHelper.setTo(emailMessage.getTo());
-            mimeMessageHelper.setSubject(emailMessage.getSubject());
-            mimeMessageHelper.setText(emailMessage.getMessage(), true);
-            javaMailSender.send(mimeMessage);
-            log.info("sent email: {}", emailMessage.getMessage());
-        } catch (MessagingException e) {
-            log.error("failed to send email", e);
-            throw new RuntimeException(e);
-        }
+        mailDispatcher.submit(emailMessage);
+        log.debug("queued email to {}", emailMessage.getTo());
     }
 }
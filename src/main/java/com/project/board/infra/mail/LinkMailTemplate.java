@@ -0,0 +1,129 @@
+package com.project.board.infra.mail;
+
+import com.project.board.infra.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * mail/simple-link 템플릿으로 메일 본문을 만드는 클래스
+ *
+ * 알림 메일은 수신자마다 nickname만 다르고 나머지(link, linkName, message, host)는 같으므로
+ *  - 템플릿은 처음 한 번만 변수 자리에 표시 문자열을 넣어 렌더링하고, 결과를 고정된 HTML 조각과 변수 자리로 나눠서 보관
+ *  - bind : 이벤트마다 한 번 호출, 공통 값을 채워서 nickname 자리만 남은 LinkMailBody 반환
+ *  - LinkMailBody.render : 수신자마다 호출, 나눠둔 조각 사이에 nickname만 끼워 넣음(Thymeleaf를 거치지 않음)
+ * 값은 Thymeleaf의 th:text, 속성 값과 같은 방식(HTML 특수 문자만 escape, unbescape 사용)으로 escape
+ *
+ * 템플릿 파일을 수정하면 서버를 재시작해야 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+public class LinkMailTemplate {
+
+    private static final String TEMPLATE = "mail/simple-link";
+    private static final String NICKNAME = "nickname";
+    private static final List<String> VARIABLES = List.of("host", "link", "linkName", "message", NICKNAME);
+    // 변수 이름에 '_'가 들어가면 이어 붙은 표시 문자열(${host} + ${link})이 하나로 잡히므로 영문자만 허용
+    private static final Pattern MARKER = Pattern.compile("__mail_([a-zA-Z]+)__");
+
+    private final TemplateEngine templateEngine;
+    private final AppProperties appProperties;
+    private volatile List<String> segments; // 짝수 번째는 고정된 HTML, 홀수 번째는 변수 이름
+
+    public LinkMailBody bind(String link, String linkName, String message) {
+        Map<String, String> values = Map.of(
+                "host", appProperties.getHost(),
+                "link", link,
+                "linkName", linkName,
+                "message", message);
+        List<String> parts = new ArrayList<>(); // nickname 자리를 기준으로 나눈 본문
+        StringBuilder part = new StringBuilder();
+        List<String> segments = segments();
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (i % 2 == 0) {
+                part.append(segment);
+            } else if (NICKNAME.equals(segment)) {
+                parts.add(part.toString());
+                part.setLength(0);
+            } else {
+                part.append(escape(values.get(segment)));
+            }
+        }
+        parts.add(part.toString());
+        return new LinkMailBody(parts);
+    }
+
+    // 한 명에게만 보내는 메일
+    public String render(String nickname, String link, String linkName, String message) {
+        return bind(link, linkName, message).render(nickname);
+    }
+
+    private List<String> segments() {
+        List<String> compiled = segments;
+        if (compiled == null) {
+            compiled = compile();
+            segments = compiled;
+        }
+        return compiled;
+    }
+
+    private List<String> compile() {
+        Context context = new Context();
+        VARIABLES.forEach(variable -> context.setVariable(variable, "__mail_" + variable + "__"));
+        String html = templateEngine.process(TEMPLATE, context);
+        List<String> compiled = new ArrayList<>();
+        Matcher matcher = MARKER.matcher(html);
+        int start = 0;
+        while (matcher.find()) {
+            String variable = matcher.group(1);
+            if (!VARIABLES.contains(variable)) { // 표시 문자열을 잘못 나누면 값이 빈 문자열로 바뀌므로 시작할 때 확인
+                throw new IllegalStateException(TEMPLATE + " 템플릿의 변수 자리를 나눌 수 없습니다: " + variable);
+            }
+            compiled.add(html.substring(start, matcher.start()));
+            compiled.add(variable);
+            start = matcher.end();
+        }
+        compiled.add(html.substring(start));
+        return compiled;
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : HtmlEscape.escapeHtml(value,
+                HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL, HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+    /**
+     * 공통 값이 채워진 메일 본문, 수신자의 nickname만 넣어서 완성
+     */
+    public static class LinkMailBody {
+
+        private final List<String> parts;
+        private final int length;
+
+        private LinkMailBody(List<String> parts) {
+            this.parts = parts;
+            this.length = parts.stream().mapToInt(String::length).sum();
+        }
+
+        public String render(String nickname) {
+            String escaped = escape(nickname);
+            StringBuilder body = new StringBuilder(length + escaped.length() * (parts.size() - 1));
+            body.append(parts.get(0));
+            for (int i = 1; i < parts.size(); i++) {
+                body.append(escaped).append(parts.get(i));
+            }
+            return body.toString();
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.project.board.infra.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송 파이프라인
+ *
+ * 요청 스레드에서 SMTP로 바로 보내면 응답이 SMTP 서버 속도에 묶이고, 메일마다 SMTP 연결을 새로 맺게 되므로
+ *  - submit : 메일을 스풀(MailSpool)에 저장한 뒤 크기가 제한된 큐에 넣고 바로 반환
+ *  - dispatcher 스레드 : 큐에서 최대 batchSize개를 꺼내 수신 도메인별로 묶고, 도메인 묶음을 메일 전용 스레드 풀(mailExecutor)에 전달
+ *  - mailExecutor : 도메인 묶음마다 SMTP 연결 하나로 여러 MimeMessage를 전송
+ *    (JavaMailSender.send(MimeMessage...)는 한 번 연결한 Transport로 전달된 메시지를 모두 보냄)
+ *    스레드 풀이 가득 차면 app.async.mail.rejection-policy에 따라 처리, SPILL이면 스풀에 남겨두고 다음 스풀 확인 때 다시 발송
+ *  - 도메인별 동시 발송 수 제한 : 같은 도메인으로 동시에 보내는 스레드 수를 perDomainConcurrency로 제한
+ *    초과한 도메인 묶음은 스레드 풀에 넘기지 않고 도메인별 대기열(최대 perDomainQueueCapacity통)에 보관,
+ *    발송을 마친 스레드가 슬롯을 반납하는 대신 대기열의 다음 묶음을 이어서 발송
+ *    대기열도 가득 차면 스풀에 남겨두고 다음 스풀 확인 때 다시 발송
+ *  - 재시도 : 실패한 메일은 backoff * 2^시도 횟수 뒤에 다시 큐에 넣고, maxAttempts번 실패하면 스풀의 failed 디렉터리로 이동
+ *  - 큐가 가득 차면 스풀에만 남겨두고, 주기적으로 스풀을 확인해 큐에 넣음(서버 재시작 후 남은 메일도 같은 방식으로 발송)
+ */
+@Slf4j
+@Component
+@Profile("!dev")
+public class MailDispatcher {
+
+    private final JavaMailSender javaMailSender;
+    private final MailSpool mailSpool;
+    private final BlockingQueue<SpooledMail> queue;
+    private final Set<Path> inFlightFiles = ConcurrentHashMap.newKeySet(); // 큐에 있거나, 발송 중이거나, 재시도를 기다리는 메일
+    private final Map<String, DomainLane> domainLanes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "MailRetry"));
+    private final TaskExecutor mailExecutor;
+    private final Thread dispatcher = new Thread(this::dispatch, "MailDispatcher");
+
+    private final int batchSize;
+    private final int perDomainConcurrency;
+    private final int perDomainQueueCapacity;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final Counter sentMails;
+    private final Counter retriedMails;
+    private final Counter failedMails;
+    private volatile boolean running = true;
+
+    public MailDispatcher(JavaMailSender javaMailSender, MailSpool mailSpool, MeterRegistry meterRegistry,
+                          @Qualifier("mailExecutor") TaskExecutor mailExecutor,
+                          @Value("${app.mail.queue-capacity:1000}") int queueCapacity,
+                          @Value("${app.mail.batch-size:50}") int batchSize,
+                          @Value("${app.mail.per-domain-concurrency:1}") int perDomainConcurrency,
+                          @Value("${app.mail.per-domain-queue-capacity:500}") int perDomainQueueCapacity,
+                          @Value("${app.mail.max-attempts:5}") int maxAttempts,
+                          @Value("${app.mail.backoff-ms:5000}") long backoffMillis) {
+        this.javaMailSender = javaMailSender;
+        this.mailSpool = mailSpool;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.mailExecutor = mailExecutor;
+        this.batchSize = batchSize;
+        this.perDomainConcurrency = perDomainConcurrency;
+        this.perDomainQueueCapacity = perDomainQueueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+
+        Gauge.builder("mail.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        this.sentMails = resultCounter(meterRegistry, "sent");
+        this.retriedMails = resultCounter(meterRegistry, "retried");
+        this.failedMails = resultCounter(meterRegistry, "failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcher.start();
+    }
+
+    public void submit(EmailMessage emailMessage) {
+        Path file = mailSpool.write(emailMessage);
+        enqueue(new SpooledMail(file, emailMessage));
+    }
+
+    // 재시작 전에 보내지 못한 메일과 큐가 가득 차서 스풀에만 남은 메일을 다시 큐에 넣음
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.mail.spool-scan-interval-ms:30000}")
+    public void recoverSpool() {
+        for (Path file : mailSpool.pending()) {
+            if (inFlightFiles.contains(file)) {
+                continue;
+            }
+            try {
+                if (!enqueue(new SpooledMail(file, mailSpool.read(file)))) {
+                    return;
+                }
+            } catch (NoSuchFileException e) {
+                // 목록을 만든 뒤에 발송이 끝나서 지워진 파일이므로 건너뜀
+                log.debug("spooled mail {} is already gone", file);
+            } catch (IOException e) {
+                log.error("failed to read spooled mail {}", file, e);
+                mailSpool.moveToFailed(file);
+            }
+        }
+    }
+
+    private boolean enqueue(SpooledMail mail) {
+        if (!inFlightFiles.add(mail.getFile())) {
+            return true;
+        }
+        return requeue(mail);
+    }
+
+    // 큐에 넣지 못하면 스풀에만 남겨둠
+    private boolean requeue(SpooledMail mail) {
+        if (!queue.offer(mail)) {
+            inFlightFiles.remove(mail.getFile());
+            log.warn("mail queue is full, {} stays in spool", mail.getFile().getFileName());
+            return false;
+        }
+        return true;
+    }
+
+    private void dispatch() {
+        while (running) {
+            List<SpooledMail> batch = new ArrayList<>();
+            try {
+                SpooledMail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            groupByDomain(batch).forEach(this::dispatchToDomain);
+        }
+    }
+
+    private void dispatchToDomain(String domain, List<SpooledMail> mails) {
+        DomainLane lane = domainLanes.computeIfAbsent(domain, d -> new DomainLane());
+        Admission admission = lane.admit(mails);
+        if (admission == Admission.PARKED) {
+            return;
+        }
+        if (admission == Admission.FULL) {
+            log.warn("mail queue for {} is full, {} mails stay in spool", domain, mails.size());
+            spill(mails);
+            return;
+        }
+        try {
+            mailExecutor.execute(() -> sendToDomain(lane, mails));
+        } catch (TaskRejectedException e) {
+            log.warn("mail executor is busy, {} mails to {} stay in spool", mails.size(), domain);
+            spill(mails);
+            lane.abandon().forEach(this::spill);
+        }
+    }
+
+    // 슬롯을 가진 동안 대기열에 쌓인 같은 도메인의 묶음을 이어서 발송
+    private void sendToDomain(DomainLane lane, List<SpooledMail> mails) {
+        List<SpooledMail> batch = mails;
+        try {
+            while (batch != null) {
+                send(batch);
+                batch = lane.next();
+            }
+        } finally {
+            if (batch != null) {
+                spill(batch);
+                lane.abandon().forEach(this::spill);
+            }
+        }
+    }
+
+    // 스풀에만 남겨두고 다음 스풀 확인 때 다시 큐에 넣음
+    private void spill(List<SpooledMail> mails) {
+        mails.forEach(mail -> inFlightFiles.remove(mail.getFile()));
+    }
+
+    // 한 번의 send 호출로 SMTP 연결 하나에서 여러 메일을 전송
+    private void send(List<SpooledMail> mails) {
+        List<SpooledMail> sendable = new ArrayList<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>();
+        for (SpooledMail mail : mails) {
+            try {
+                mimeMessages.add(toMimeMessage(mail.getMessage()));
+                sendable.add(mail);
+            } catch (MessagingException e) {
+                log.error("invalid mail {}", mail.getFile().getFileName(), e);
+                failedMails.increment();
+                mailSpool.moveToFailed(mail.getFile());
+                inFlightFiles.remove(mail.getFile());
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return;
+        }
+        try {
+            javaMailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+            sendable.forEach(this::sent);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (int i = 0; i < sendable.size(); i++) {
+                Exception failure = failedMessages.get(mimeMessages.get(i));
+                if (failure == null && !failedMessages.isEmpty()) {
+                    sent(sendable.get(i));
+                } else {
+                    retry(sendable.get(i), failure == null ? e : failure);
+                }
+            }
+        } catch (MailException e) {
+            sendable.forEach(mail -> retry(mail, e));
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage emailMessage) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        mimeMessageHelper.setTo(emailMessage.getTo());
+        mimeMessageHelper.setSubject(emailMessage.getSubject());
+        mimeMessageHelper.setText(emailMessage.getMessage(), true);
+        return mimeMessage;
+    }
+
+    private void sent(SpooledMail mail) {
+        sentMails.increment();
+        mailSpool.delete(mail.getFile());
+        inFlightFiles.remove(mail.getFile());
+        log.info("sent email to {}", mail.getMessage().getTo());
+    }
+
+    private void retry(SpooledMail mail, Exception cause) {
+        int attempts = mail.failed();
+        if (attempts >= maxAttempts) {
+            failedMails.increment();
+            log.error("failed to send email to {} after {} attempts", mail.getMessage().getTo(), attempts, cause);
+            mailSpool.moveToFailed(mail.getFile());
+            inFlightFiles.remove(mail.getFile());
+            return;
+        }
+        retriedMails.increment();
+        long delay = backoffMillis * (1L << Math.min(attempts - 1, 10));
+        log.warn("failed to send email to {}, retry in {}ms", mail.getMessage().getTo(), delay, cause);
+        retryScheduler.schedule(() -> requeue(mail), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static Map<String, List<SpooledMail>> groupByDomain(List<SpooledMail> mails) {
+        Map<String, List<SpooledMail>> byDomain = new LinkedHashMap<>();
+        for (SpooledMail mail : mails) {
+            String to = mail.getMessage().getTo();
+            String domain = to == null ? "" : to.substring(to.lastIndexOf('@') + 1).toLowerCase(Locale.ROOT);
+            byDomain.computeIfAbsent(domain, d -> new ArrayList<>()).add(mail);
+        }
+        return byDomain;
+    }
+
+    // 보내지 못한 메일은 스풀에 남아 있으므로 재시작 후 다시 발송
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        dispatcher.join(TimeUnit.SECONDS.toMillis(2));
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mail.messages")
+                .tag("result", result)
+                .description("발송 결과별 메일 수")
+                .register(meterRegistry);
+    }
+
+    private enum Admission {
+        RUN, PARKED, FULL
+    }
+
+    // 도메인별 발송 슬롯과 슬롯을 기다리는 묶음의 대기열
+    private class DomainLane {
+        private final Deque<List<SpooledMail>> parked = new ArrayDeque<>();
+        private int active;
+        private int parkedMails;
+
+        synchronized Admission admit(List<SpooledMail> mails) {
+            if (active < perDomainConcurrency) {
+                active++;
+                return Admission.RUN;
+            }
+            if (parkedMails + mails.size() > perDomainQueueCapacity) {
+                return Admission.FULL;
+            }
+            parked.add(mails);
+            parkedMails += mails.size();
+            return Admission.PARKED;
+        }
+
+        // 대기 중인 묶음이 없으면 슬롯을 반납
+        synchronized List<SpooledMail> next() {
+            List<SpooledMail> mails = parked.poll();
+            if (mails == null) {
+                active--;
+                return null;
+            }
+            parkedMails -= mails.size();
+            return mails;
+        }
+
+        // 발송하지 못하고 슬롯을 반납, 이어서 발송할 스레드가 없으면 대기 중인 묶음을 모두 돌려줌
+        synchronized List<List<SpooledMail>> abandon() {
+            active--;
+            if (active > 0) {
+                return Collections.emptyList();
+            }
+            List<List<SpooledMail>> abandoned = new ArrayList<>(parked);
+            parked.clear();
+            parkedMails = 0;
+            return abandoned;
+        }
+    }
+
+    @Getter
+    private static class SpooledMail {
+        private final Path file;
+        private final EmailMessage message;
+        private int attempts;
+
+        SpooledMail(Path file, EmailMessage message) {
+            this.file = file;
+            this.message = message;
+        }
+
+        int failed() {
+            return ++attempts;
+        }
+    }
+}
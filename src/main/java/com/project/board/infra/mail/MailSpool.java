@@ -0,0 +1,108 @@
+package com.project.board.infra.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * 발송 대기 중인 메일을 파일로 보관하는 스풀(spool)
+ *
+ * 메일은 큐에 넣기 전에 먼저 파일로 저장하고 발송에 성공한 뒤에 삭제
+ * 서버가 재시작되어도 남아있는 파일을 다시 발송하므로 메일이 유실되지 않음
+ * 재시도 횟수를 넘긴 메일은 failed 디렉터리로 이동
+ */
+@Slf4j
+@Component
+@Profile("!dev")
+public class MailSpool {
+
+    private static final String EXTENSION = ".mail";
+
+    private final Path spoolDir;
+    private final Path failedDir;
+
+    public MailSpool(@Value("${app.mail.spool-dir:./data/mail-spool}") String spoolDir) {
+        this.spoolDir = Paths.get(spoolDir).toAbsolutePath().normalize();
+        this.failedDir = this.spoolDir.resolve("failed");
+        try {
+            Files.createDirectories(failedDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 스풀 디렉터리를 만들지 못했습니다.", e);
+        }
+    }
+
+    public Path write(EmailMessage emailMessage) {
+        Properties properties = new Properties();
+        properties.setProperty("to", emailMessage.getTo());
+        properties.setProperty("subject", emailMessage.getSubject());
+        properties.setProperty("message", emailMessage.getMessage());
+        Path file = spoolDir.resolve(System.currentTimeMillis() + "-" + UUID.randomUUID() + EXTENSION);
+        try {
+            // 임시 파일에 쓴 뒤 이동시켜서 스풀을 읽는 쪽에서 쓰다 만 파일을 보지 않도록 함
+            Path temp = Files.createTempFile(spoolDir, "mail", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일을 스풀에 저장하지 못했습니다.", e);
+        }
+        return file;
+    }
+
+    public EmailMessage read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return EmailMessage.builder()
+                .to(properties.getProperty("to"))
+                .subject(properties.getProperty("subject"))
+                .message(properties.getProperty("message"))
+                .build();
+    }
+
+    // 오래된 파일부터 반환, 파일 이름이 저장 시각으로 시작하므로 이름순 정렬
+    public List<Path> pending() {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(spoolDir, "*" + EXTENSION)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.error("failed to list mail spool", e);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    public void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.error("failed to delete spooled mail {}", file, e);
+        }
+    }
+
+    public void moveToFailed(Path file) {
+        try {
+            Files.move(file, failedDir.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("failed to move spooled mail {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.board.infra.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 메모리 검색 색인에서 사용하는 bigram 분리기
+ *
+ * 한국어는 띄어쓰기 단위로는 부분 검색이 어려우므로 단어를 2글자 단위(bigram)로 잘라 색인
+ * 예) "스터디모집" -> "스터", "터디", "디모", "모집"
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    // 공백 기준으로 단어를 나누고 각 단어를 bigram으로 분리, 한 글자 단어는 그대로 사용
+    public static List<String> bigrams(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (word.length() == 1) {
+                terms.add(word);
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,265 @@
+package com.project.board.infra.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.board.infra.config.AppProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * DB 세션 저장소(JdbcIndexedSessionRepository) 앞에 두는 서버별 세션 캐시
+ *
+ * JDBC 세션 저장소는 요청마다 세션과 속성을 조회(SELECT)하고 요청이 끝나면 마지막 접근 시각을 갱신(UPDATE)
+ *  - 조회 : nearCacheTtlSeconds 동안 조회한 세션을 서버 메모리에 보관하고 복사본을 반환
+ *  - 저장 : 속성이 바뀐 경우에만 DB 세션을 조회해서 바뀐 속성만 반영
+ *           마지막 접근 시각만 바뀐 경우에는 세션을 조회하지 않고 UPDATE 한 번으로 갱신, LAZY면 touchInterval이 지났을 때만 갱신
+ * 세션 삭제(로그아웃)는 이 서버의 캐시와 DB에서 바로 삭제, 다른 서버의 캐시에는 nearCacheTtlSeconds 동안 남아있을 수 있음
+ *
+ * 속성 값은 서블릿 메모리 세션과 마찬가지로 같은 세션의 요청끼리 공유되므로 값을 바꿀 때는 setAttribute로 다시 저장
+ */
+public class NearCacheSessionRepository<S extends Session> implements SessionRepository<NearCacheSessionRepository<S>.CachedSession> {
+
+    private final SessionRepository<S> delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final String touchQuery;
+    private final AppProperties.FlushPolicy flushPolicy;
+    private final Duration touchInterval;
+    private final Cache<String, Entry> cache;
+
+    public NearCacheSessionRepository(SessionRepository<S> delegate, JdbcTemplate jdbcTemplate, String tableName,
+                                      AppProperties.Session properties) {
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.touchQuery = "UPDATE " + tableName
+                + " SET LAST_ACCESS_TIME = ?, EXPIRY_TIME = ? WHERE SESSION_ID = ?";
+        this.flushPolicy = properties.getFlush();
+        this.touchInterval = Duration.ofSeconds(properties.getTouchIntervalSeconds());
+        this.cache = properties.getNearCacheTtlSeconds() > 0
+                ? Caffeine.newBuilder()
+                .maximumSize(properties.getNearCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getNearCacheTtlSeconds()))
+                .<String, Entry>build()
+                : null;
+    }
+
+    @Override
+    public CachedSession createSession() {
+        S session = delegate.createSession();
+        CachedSession cachedSession = new CachedSession(new MapSession(session), null);
+        cachedSession.target = session;
+        return cachedSession;
+    }
+
+    @Override
+    public void save(CachedSession session) {
+        if (session.isOnlyTouched()) {
+            touch(session);
+            return;
+        }
+        S target = session.target != null ? session.target : delegate.findById(session.originalId);
+        if (target == null) { // 만료되었거나 다른 서버에서 삭제된 세션
+            invalidate(session.originalId);
+            return;
+        }
+        for (String name : session.changedAttributes) {
+            target.setAttribute(name, session.getAttribute(name));
+        }
+        target.setMaxInactiveInterval(session.getMaxInactiveInterval());
+        target.setLastAccessedTime(session.getLastAccessedTime());
+        delegate.save(target);
+        if (!target.getId().equals(session.originalId)) {
+            invalidate(session.originalId);
+        }
+        session.saved(target.getId());
+    }
+
+    // 마지막 접근 시각만 바뀐 경우 세션을 조회하지 않고 시각만 갱신
+    private void touch(CachedSession session) {
+        Instant lastAccessedTime = session.getLastAccessedTime();
+        if (flushPolicy == AppProperties.FlushPolicy.LAZY
+                && Duration.between(session.persistedLastAccessedTime, lastAccessedTime).compareTo(touchInterval) < 0) {
+            return;
+        }
+        jdbcTemplate.update(touchQuery, lastAccessedTime.toEpochMilli(),
+                lastAccessedTime.plus(session.getMaxInactiveInterval()).toEpochMilli(), session.getId());
+        session.persistedLastAccessedTime = lastAccessedTime;
+        // 캐시 항목을 교체하면 유지 시간이 다시 시작되어 다른 서버의 변경을 계속 보지 못하므로 항목 안의 값만 갱신
+        Entry entry = cache == null ? null : cache.getIfPresent(session.getId());
+        if (entry != null) {
+            entry.touched(lastAccessedTime);
+        }
+    }
+
+    @Override
+    public CachedSession findById(String id) {
+        Entry entry = cache == null ? null : cache.getIfPresent(id);
+        if (entry != null && !entry.isExpired()) {
+            return entry.copy();
+        }
+        S session = delegate.findById(id); // 만료된 세션은 delegate가 삭제하고 null 반환
+        if (session == null) {
+            invalidate(id);
+            return null;
+        }
+        MapSession snapshot = new MapSession(session);
+        put(snapshot, session.getLastAccessedTime());
+        return new CachedSession(new MapSession(snapshot), session.getLastAccessedTime());
+    }
+
+    @Override
+    public void deleteById(String id) {
+        invalidate(id);
+        delegate.deleteById(id);
+    }
+
+    private void put(MapSession snapshot, Instant persistedLastAccessedTime) {
+        if (cache != null) {
+            cache.put(snapshot.getId(), new Entry(snapshot, persistedLastAccessedTime));
+        }
+    }
+
+    private void invalidate(String id) {
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    private class Entry {
+        private final MapSession session; // 캐시에 보관하는 동안 변경하지 않음, 요청에는 복사본 전달
+        private volatile Instant persistedLastAccessedTime;
+
+        private Entry(MapSession session, Instant persistedLastAccessedTime) {
+            this.session = session;
+            this.persistedLastAccessedTime = persistedLastAccessedTime;
+        }
+
+        private void touched(Instant lastAccessedTime) {
+            persistedLastAccessedTime = lastAccessedTime;
+        }
+
+        private boolean isExpired() {
+            return persistedLastAccessedTime.plus(session.getMaxInactiveInterval()).isBefore(Instant.now());
+        }
+
+        private CachedSession copy() {
+            MapSession copy = new MapSession(session);
+            copy.setLastAccessedTime(persistedLastAccessedTime);
+            return new CachedSession(copy, persistedLastAccessedTime);
+        }
+    }
+
+    /**
+     * 요청 하나에서 사용하는 세션, 캐시된 세션의 복사본에 변경 사항을 기록해 두고 save에서 DB에 반영
+     * 새 세션, 세션 id 변경(로그인 시 세션 고정 공격 방지)은 DB 세션(target)에 바로 적용해서 id를 맞춤
+     */
+    public class CachedSession implements Session {
+
+        private final MapSession session;
+        private final Set<String> changedAttributes = new HashSet<>();
+        private String originalId;
+        private Instant persistedLastAccessedTime; // 새 세션이면 null
+        private boolean maxInactiveIntervalChanged;
+        private S target;
+
+        private CachedSession(MapSession session, Instant persistedLastAccessedTime) {
+            this.session = session;
+            this.originalId = session.getId();
+            this.persistedLastAccessedTime = persistedLastAccessedTime;
+        }
+
+        private boolean isOnlyTouched() {
+            return target == null && persistedLastAccessedTime != null && changedAttributes.isEmpty()
+                    && !maxInactiveIntervalChanged;
+        }
+
+        private void saved(String id) {
+            originalId = id;
+            target = null;
+            changedAttributes.clear();
+            maxInactiveIntervalChanged = false;
+            persistedLastAccessedTime = session.getLastAccessedTime();
+            put(new MapSession(session), persistedLastAccessedTime);
+        }
+
+        @Override
+        public String getId() {
+            return session.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            if (target == null) {
+                target = delegate.findById(originalId);
+                if (target == null) {
+                    target = delegate.createSession();
+                    session.getAttributeNames().forEach(changedAttributes::add);
+                }
+            }
+            String newId = target.changeSessionId();
+            session.setId(newId);
+            return newId;
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return session.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return session.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            session.setAttribute(attributeName, attributeValue);
+            changedAttributes.add(attributeName);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            session.removeAttribute(attributeName);
+            changedAttributes.add(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return session.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            session.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return session.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            if (!interval.equals(session.getMaxInactiveInterval())) {
+                maxInactiveIntervalChanged = true;
+            }
+            session.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return session.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return session.isExpired();
+        }
+    }
+}
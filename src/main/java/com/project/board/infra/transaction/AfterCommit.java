@@ -0,0 +1,30 @@
+package com.project.board.infra.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션이 커밋된 뒤에 실행할 작업 등록
+ *
+ * 메모리 검색 색인처럼 DB 밖에 있는 상태를 트랜잭션 안에서 바로 바꾸면 롤백되어도 되돌릴 수 없으므로 커밋 이후에 반영
+ * 트랜잭션 밖에서 호출하면 바로 실행
+ * 작업은 커밋 시점이 아니라 등록 시점의 값을 사용하도록, 엔티티 대신 필요한 값을 미리 꺼내서 전달
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void execute(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
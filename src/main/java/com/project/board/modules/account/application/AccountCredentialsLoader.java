@@ -0,0 +1,50 @@
+package com.project.board.modules.account.application;
+
+import com.project.board.infra.config.CacheConfig;
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.infra.projection.AccountCredentials;
+import com.project.board.modules.account.infra.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+
+/**
+ * 로그인 아이디(이메일 또는 닉네임)로 계정 인증 정보를 조회하고 짧은 시간 캐시
+ *
+ * AccountService 안에서 호출하면 프록시를 거치지 않아 캐시가 적용되지 않으므로 별도 빈으로 분리
+ * 같은 계정이 이메일, 닉네임 두 개의 키로 캐시될 수 있으므로 삭제할 때는 두 키를 모두 삭제
+ * 없는 계정은 캐시하지 않음(가입 직후 로그인)
+ *
+ * DB(MySQL)는 대소문자와 뒤쪽 공백을 구분하지 않고 비교하므로 Foo@Email.com으로 로그인해도 같은 계정을 찾음
+ * 입력한 값 그대로 키로 쓰면 삭제할 때 지우지 못하는 키가 남아 변경 전 비밀번호가 TTL 동안 유효하므로 키를 정규화(cacheKey)
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountCredentialsLoader {
+
+    private final AccountRepository accountRepository;
+
+    @Cacheable(cacheNames = CacheConfig.ACCOUNT_CREDENTIALS, key = "T(com.project.board.modules.account.application.AccountCredentialsLoader).cacheKey(#username)", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public AccountCredentials load(String username) {
+        return accountRepository.findCredentialsByUsername(username);
+    }
+
+    // 비밀번호, 닉네임을 변경하기 전에 호출, 트랜잭션 안에서 호출하면 커밋 이후에 삭제됨
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ACCOUNT_CREDENTIALS, key = "T(com.project.board.modules.account.application.AccountCredentialsLoader).cacheKey(#account.email)"),
+            @CacheEvict(cacheNames = CacheConfig.ACCOUNT_CREDENTIALS, key = "T(com.project.board.modules.account.application.AccountCredentialsLoader).cacheKey(#account.nickname)")
+    })
+    public void evict(Account account) {
+    }
+
+    // DB 비교 규칙에 맞춰 소문자로 바꾸고 뒤쪽 공백 제거
+    public static String cacheKey(String username) {
+        return username == null ? null : username.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+}
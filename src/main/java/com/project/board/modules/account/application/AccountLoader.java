@@ -0,0 +1,27 @@
+package com.project.board.modules.account.application;
+
+import com.project.board.modules.account.domain.UserAccount;
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.infra.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션의 UserAccount(id, 닉네임 등 값만 보관)로 계정 엔티티를 얻는 로더
+ *
+ * getReference(getById)로 프록시만 만들어 반환하므로 id만 사용하는 경우(연관 관계 설정, id 조건 조회)에는 쿼리가 실행되지 않고
+ * 다른 필드에 처음 접근할 때 한 번 조회됨, 이후 같은 요청의 findById는 영속성 컨텍스트에서 반환
+ * 요청이 끝날 때까지 영속성 컨텍스트가 열려 있어야 하므로(spring.jpa.open-in-view 기본값 true) 요청 처리 중에만 사용
+ *
+ * @CurrentUser 어노테이션에서 사용
+ */
+@Component("accountLoader")
+@RequiredArgsConstructor
+public class AccountLoader {
+
+    private final AccountRepository accountRepository;
+
+    public Account getReference(UserAccount userAccount) {
+        return accountRepository.getById(userAccount.getAccountId());
+    }
+}
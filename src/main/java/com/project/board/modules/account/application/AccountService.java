@@ -1,8 +1,8 @@
 package com.project.board.modules.account.application;
 
-import com.project.board.infra.config.AppProperties;
 import com.project.board.infra.mail.EmailMessage;
 import com.project.board.infra.mail.EmailService;
+import com.project.board.infra.mail.LinkMailTemplate;
 import com.project.board.modules.tag.domain.entity.Tag;
 import com.project.board.modules.account.domain.UserAccount;
 import com.project.board.modules.account.domain.entity.Account;
@@ -10,7 +10,9 @@ import com.project.board.modules.account.domain.entity.Zone;
 import com.project.board.modules.account.endpoint.controller.form.NotificationForm;
 import com.project.board.modules.account.endpoint.controller.form.Profile;
 import com.project.board.modules.account.endpoint.controller.form.SignUpForm;
+import com.project.board.modules.account.infra.projection.AccountCredentials;
 import com.project.board.modules.account.infra.repository.AccountRepository;
+import com.project.board.modules.image.application.ImageStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,8 +24,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import org.springframework.util.StringUtils;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -38,8 +39,9 @@ public class AccountService implements UserDetailsService {
     private final AccountRepository accountRepository;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
-    private final TemplateEngine templateEngine;
-    private final AppProperties appProperties;
+    private final LinkMailTemplate linkMailTemplate;
+    private final ImageStore imageStore;
+    private final AccountCredentialsLoader accountCredentialsLoader;
 
     public Account signUp(SignUpForm signUpForm) {
         Account newAccount = saveNewAccount(signUpForm);
@@ -55,14 +57,9 @@ public class AccountService implements UserDetailsService {
 
     // 회원 가입시 인증 이메일 전송
     public void sendVerificationEmail(Account newAccount) {
-        Context context = new Context(); // Context 객체를 이용해 타임리프 파싱해서 사용
-        context.setVariable("link", String.format("/check-email-token?token=%s&email=%s", newAccount.getEmailToken(),
-                newAccount.getEmail()));
-        context.setVariable("nickname", newAccount.getNickname());
-        context.setVariable("linkName", "이메일 인증하기");
-        context.setVariable("message", "Study With Me 가입 인증을 위해 링크를 클릭하세요.");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = linkMailTemplate.render(newAccount.getNickname(), // 미리 나눠둔 mail/simple-link 템플릿에 값만 채움
+                String.format("/check-email-token?token=%s&email=%s", newAccount.getEmailToken(), newAccount.getEmail()),
+                "이메일 인증하기", "Study With Me 가입 인증을 위해 링크를 클릭하세요.");
         emailService.sendEmail(EmailMessage.builder()
                 .to(newAccount.getEmail())
                 .subject("Study With Me 회원 가입 인증")
@@ -86,7 +83,7 @@ public class AccountService implements UserDetailsService {
      * @CurrentUser 어노테이션에 의해 @AuthenticationPrincipal이 적용되고, 인증 여부에 따라 account를 반환해서 넘겨줄 수 있게 됨
      */
     public void login(Account account) {
-        UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(new UserAccount(account),
+        UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(UserAccount.from(account),
                 account.getPassword(), Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")));
         SecurityContextHolder.getContext().setAuthentication(token);
     }
@@ -95,42 +92,53 @@ public class AccountService implements UserDetailsService {
      * UserDetailsService가 제공하는 인터페이스를 재정의
      * username을 불러오는 방식으로 구현, 사용자가 존재하는지 확인하여 사용자 정보를 반환해 주면 나머지는 spring security가 처리
      * 이메일 또는 닉네임이 존재하는지 확인해야 하기 때문에 두 가지 정보를 모두 확인
-     * 둘 다 확인했을 때도 계정이 검색되지 않는 경우 UsernameNotFoundException을 생성하여 던짐
+     *  - 한 번의 쿼리로 이메일, 닉네임을 같이 확인하고 인증 정보 컬럼만 조회, 결과는 AccountCredentialsLoader에서 짧은 시간 캐시
+     *  - 폼 로그인, RememberMe 자동 로그인 모두 이 메서드를 사용
+     * 계정이 검색되지 않는 경우 UsernameNotFoundException을 생성하여 던짐
      * 계정이 존재할 경우 UserDetails 인터페이스 구현체를 반환
      * UserAccount 클래스가 UserDetails 인터페이스를 구현하게 했으므로 해당 객체를 반환
+     * UserAccount는 조회한 컬럼으로 만들 수 있으므로 계정 엔티티는 조회하지 않음
      */
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Account account = Optional.ofNullable(accountRepository.findByEmail(username))
-                .orElse(accountRepository.findByNickname(username));
-        if (account == null) {
+        AccountCredentials credentials = accountCredentialsLoader.load(username);
+        if (credentials == null) {
             throw new UsernameNotFoundException(username);
         }
-        return new UserAccount(account);
+        return UserAccount.from(credentials);
     }
 
     public void verify(Account account) {
+        accountCredentialsLoader.evict(account);
         account.verified();
         login(account); 
     }
 
     public void updateProfile(Account account, Profile profile) {
         account.updateProfile(profile);
+        if (StringUtils.hasText(profile.getImage())) {
+            account.updateProfileImage(imageStore.storeDataUrl(profile.getImage()));
+        }
         accountRepository.save(account);
     }
 
+    // 비밀번호, 닉네임, 알림 설정을 변경하면 캐시된 인증 정보 삭제
     public void updatePassword(Account account, String newPassword) {
+        accountCredentialsLoader.evict(account);
         account.updatePassword(passwordEncoder.encode(newPassword));
         accountRepository.save(account);
     }
 
     public void updateNotification(Account account, NotificationForm notificationForm) {
+        accountCredentialsLoader.evict(account);
         account.updateNotification(notificationForm);
         accountRepository.save(account);
+        login(account); // 세션의 UserAccount에 변경된 알림 설정 반영
     }
 
     public void updateNickname(Account account, String nickname) {
+        accountCredentialsLoader.evict(account);
         account.updateNickname(nickname);
         accountRepository.save(account);
         login(account); // 로그인을 다시 호출해 인증 정보를 갱신하여 변경된 닉네임 표시
@@ -138,13 +146,9 @@ public class AccountService implements UserDetailsService {
 
     // 이메일로 로그인
     public void sendLoginLink(Account account) {
-        Context context = new Context();
-        context.setVariable("link", "/login-by-email?token=" + account.getEmailToken() + "&email=" + account.getEmail());
-        context.setVariable("nickname", account.getNickname());
-        context.setVariable("linkName", "Study With Me 로그인하기");
-        context.setVariable("message", "로그인 하려면 아래 링크를 클릭하세요.");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = linkMailTemplate.render(account.getNickname(),
+                "/login-by-email?token=" + account.getEmailToken() + "&email=" + account.getEmail(),
+                "Study With Me 로그인하기", "로그인 하려면 아래 링크를 클릭하세요.");
         account.generateToken();
         emailService.sendEmail(EmailMessage.builder()
                 .to(account.getEmail())
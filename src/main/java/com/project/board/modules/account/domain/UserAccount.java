@@ -1,10 +1,13 @@
 package com.project.board.modules.account.domain;
 
 import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.infra.projection.AccountCredentials;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
@@ -17,19 +20,60 @@ import java.util.List;
  * User는 UserDetails 타입과 같음
  *
  * UserDetails : 사용자의 정보를 담는 인터페이스
+ *
+ * 세션에 저장되므로 계정 엔티티 대신 화면, 권한 확인에 필요한 값만 복사해서 보관하는 불변 객체
+ *  - 세션 크기가 작아지고 엔티티 연관 관계, 지연 로딩 상태를 세션에 들고 다니지 않음(세션 복제, 외부 저장소에 저장하기 쉬움)
+ *  - 계정 엔티티가 필요하면 AccountLoader.getReference로 id를 이용해 조회(@CurrentUser)
+ * 닉네임, 알림 설정처럼 값이 바뀌면 AccountService.login으로 다시 만들어서 갱신
  */
+@Getter
 public class UserAccount extends User {
 
-    /**
-     * Principal에서 Account를 가져오기 위해선 중간 adaptor 역할을 하는 객체가 필요
-     * @CurrentUser 어노테이션 account 반환했기 때문에 변수 이름을 반드시 동일
-     *  User 객체를 생성하기 위해선 Account에서 객체 username, password, authorities를 가져옴
-     */
-    @Getter
-    private final Account account;
+    private final Long accountId;
+    private final String nickname;
+    private final String email;
+    private final boolean emailVerified;
+    private final NotificationSettings notificationSettings;
+
+    private UserAccount(Long accountId, String nickname, String email, String password, boolean emailVerified,
+                        NotificationSettings notificationSettings) {
+        super(nickname, password, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        this.accountId = accountId;
+        this.nickname = nickname;
+        this.email = email;
+        this.emailVerified = emailVerified;
+        this.notificationSettings = notificationSettings;
+    }
+
+    public static UserAccount from(Account account) {
+        Account.NotificationSetting setting = account.getNotificationSetting();
+        return new UserAccount(account.getId(), account.getNickname(), account.getEmail(), account.getPassword(),
+                account.isValid(), new NotificationSettings(
+                        setting.isStudyCreatedByEmail(), setting.isStudyCreatedByWeb(),
+                        setting.isStudyRegistrationResultByEmail(), setting.isStudyRegistrationResultByWeb(),
+                        setting.isStudyUpdatedByEmail(), setting.isStudyUpdatedByWeb()));
+    }
 
-    public UserAccount(Account account) {
-        super(account.getNickname(), account.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
-        this.account = account;
+    public static UserAccount from(AccountCredentials credentials) {
+        return new UserAccount(credentials.getAccountId(), credentials.getNickname(), credentials.getEmail(),
+                credentials.getPassword(), credentials.isEmailVerified(), new NotificationSettings(
+                        credentials.isStudyCreatedByEmail(), credentials.isStudyCreatedByWeb(),
+                        credentials.isStudyRegistrationResultByEmail(), credentials.isStudyRegistrationResultByWeb(),
+                        credentials.isStudyUpdatedByEmail(), credentials.isStudyUpdatedByWeb()));
+    }
+
+    public boolean isAccount(Account account) {
+        return account != null && accountId.equals(account.getId());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class NotificationSettings implements Serializable {
+        private final boolean studyCreatedByEmail;
+        private final boolean studyCreatedByWeb;
+        private final boolean studyRegistrationResultByEmail;
+        private final boolean studyRegistrationResultByWeb;
+        private final boolean studyUpdatedByEmail;
+        private final boolean studyUpdatedByWeb;
     }
-}
\ No newline at end of file
+}
@@ -99,7 +99,13 @@ public class Account extends AuditingEntity {
         this.profile.url = profile.getUrl();
         this.profile.job = profile.getJob();
         this.profile.location = profile.getLocation();
-        this.profile.image = profile.getImage();
+    }
+
+    public void updateProfileImage(String imageHash) {
+        if (this.profile == null) {
+            this.profile = new Profile();
+        }
+        this.profile.imageHash = imageHash;
     }
 
     public void updatePassword(String newPassword) {
@@ -133,8 +139,9 @@ public class Account extends AuditingEntity {
         private String location;
         private String company;
 
-        @Lob @Basic(fetch = FetchType.EAGER) // Lob : 대용량을 저장할 수 있는 데이터 타입
-        private String image;
+        // 이미지는 이미지 저장소에 파일로 저장하고 내용 해시만 저장
+        @Column(length = 64)
+        private String imageHash;
     }
 
     @Embeddable // 다른 엔티티에 귀속될 수 있음
@@ -152,6 +159,7 @@ public class Account extends AuditingEntity {
 
     /**
      * 컨트롤러에서 전달된 객체와 DB에서 찾은 객체는 id가 동일하면 같은 객체로 판별
+     * @CurrentUser로 전달되는 계정은 프록시(getReference)일 수 있으므로 필드 대신 getId()로 비교하고 hashCode는 프록시 클래스와 관계없이 같은 값 사용
      */
     @Override
     public boolean equals(Object o) {
@@ -162,11 +170,11 @@ public class Account extends AuditingEntity {
             return false;
         }
         Account account = (Account) o;
-        return id != null && Objects.equals(id, account.id);
+        return getId() != null && Objects.equals(getId(), account.getId());
     }
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return Account.class.hashCode();
     }
 }
\ No newline at end of file
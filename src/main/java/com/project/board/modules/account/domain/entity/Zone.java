@@ -1,11 +1,13 @@
 package com.project.board.modules.account.domain.entity;
 
 import lombok.*;
+import org.hibernate.Hibernate;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import java.util.Objects;
 /**
  * 지역 도메인 설계
  * 엔티티 타입
@@ -49,4 +51,25 @@ public class Zone {
     public String toString() {
         return String.format("%s(%s)/%s", city, localNameOfCity, province);
     }
+
+    /**
+     * ZoneService가 보관하는 지역은 준영속 엔티티이므로 계정/스터디가 가진 지역과 인스턴스가 다를 수 있음
+     * 컬렉션에서 삭제할 수 있도록 id로 비교
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        Zone zone = (Zone) o;
+        return getId() != null && Objects.equals(getId(), zone.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Zone.class.hashCode();
+    }
 }
\ No newline at end of file
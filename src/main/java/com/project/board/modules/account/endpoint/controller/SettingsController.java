@@ -1,17 +1,16 @@
 package com.project.board.modules.account.endpoint.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.board.modules.account.application.AccountService;
 import com.project.board.modules.account.endpoint.controller.form.*;
 import com.project.board.modules.account.endpoint.controller.validator.NicknameFormValidator;
 import com.project.board.modules.account.endpoint.controller.validator.PasswordFormValidator;
+import com.project.board.modules.tag.application.TagService;
 import com.project.board.modules.tag.domain.entity.Tag;
 import com.project.board.modules.tag.infra.repository.TagRepository;
 import com.project.board.modules.account.domain.entity.Account;
 import com.project.board.modules.account.domain.entity.Zone;
 import com.project.board.modules.account.support.CurrentUser;
-import com.project.board.modules.zone.infra.repository.ZoneRepository;
+import com.project.board.modules.zone.application.ZoneService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
@@ -22,7 +21,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,8 +45,8 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     private final PasswordFormValidator passwordFormValidator;
     private final NicknameFormValidator nicknameFormValidator;
     private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
-    private final ObjectMapper objectMapper; // 스프링이 자동으로 빈으로 등록해 주는 ObjectMapper를 주입
+    private final ZoneService zoneService;
+    private final TagService tagService;
 
     // 비밀번호 변경 요청
     @InitBinder("passwordForm")
@@ -65,7 +63,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     // 프로필 수정
     @GetMapping(SETTINGS_PROFILE_URL) // 기존 문자열을 상수로 대체
     public String profileUpdateForm(@CurrentUser Account account, Model model) {
-        model.addAttribute(account);
+        model.addAttribute("account", account);
         model.addAttribute(Profile.from(account));
         return SETTINGS_PROFILE_VIEW_NAME;
     }
@@ -79,7 +77,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     @PostMapping(SETTINGS_PROFILE_URL)
     public String updateProfile(@CurrentUser Account account, @Valid Profile profile, Errors errors, Model model, RedirectAttributes attributes) { // RedirectAttributes : 리다이렉트 시 1회성 데이터를 전달할 수 있는 객체
         if (errors.hasErrors()) {
-            model.addAttribute(account);
+            model.addAttribute("account", account);
             return SETTINGS_PROFILE_VIEW_NAME;
         }
         accountService.updateProfile(account, profile); // 프로필 업데이트를 위임
@@ -90,7 +88,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     // 비밀번호 수정 뷰로 라우팅
     @GetMapping(SETTINGS_PASSWORD_URL)
     public String passwordUpdateForm(@CurrentUser Account account, Model model) {
-        model.addAttribute(account);
+        model.addAttribute("account", account);
         model.addAttribute(new PasswordForm());
         return SETTINGS_PASSWORD_VIEW_NAME;
     }
@@ -99,7 +97,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     @PostMapping(SETTINGS_PASSWORD_URL)
     public String updatePassword(@CurrentUser Account account, @Valid PasswordForm passwordForm, Errors errors, Model model, RedirectAttributes attributes) {
         if (errors.hasErrors()) { // 에러가 있을 경우 다시 페이지를 띄우고 그렇지 않을 경우 피드백 메시지와 함께 리다이렉트
-            model.addAttribute(account);
+            model.addAttribute("account", account);
             return SETTINGS_PASSWORD_VIEW_NAME;
         }
         accountService.updatePassword(account, passwordForm.getNewPassword());
@@ -110,7 +108,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     // 알림 설정 뷰로 라우팅
     @GetMapping(SETTINGS_NOTIFICATION_URL)
     public String notificationForm(@CurrentUser Account account, Model model) {
-        model.addAttribute(account);
+        model.addAttribute("account", account);
         model.addAttribute(NotificationForm.from(account));
         return SETTINGS_NOTIFICATION_VIEW_NAME;
     }
@@ -119,7 +117,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     @PostMapping(SETTINGS_NOTIFICATION_URL)
     public String updateNotification(@CurrentUser Account account, @Valid NotificationForm notificationForm, Errors errors, Model model, RedirectAttributes attributes) {
         if (errors.hasErrors()) {
-            model.addAttribute(account);
+            model.addAttribute("account", account);
             return SETTINGS_NOTIFICATION_URL;
         }
         accountService.updateNotification(account, notificationForm);
@@ -130,7 +128,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     // 닉네임 수정 뷰로 라우팅
     @GetMapping(SETTINGS_ACCOUNT_URL)
     public String nicknameForm(@CurrentUser Account account, Model model) {
-        model.addAttribute(account);
+        model.addAttribute("account", account);
         model.addAttribute(new NicknameForm(account.getNickname()));
         return SETTINGS_ACCOUNT_VIEW_NAME;
     }
@@ -139,7 +137,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     @PostMapping(SETTINGS_ACCOUNT_URL)
     public String updateNickname(@CurrentUser Account account, @Valid NicknameForm nicknameForm, Errors errors, Model model, RedirectAttributes attributes) {
         if (errors.hasErrors()) {
-            model.addAttribute(account);
+            model.addAttribute("account", account);
             return SETTINGS_ACCOUNT_VIEW_NAME;
         }
         accountService.updateNickname(account, nicknameForm.getNickname());
@@ -152,27 +150,16 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
      * 기존에 있는 태그 목록에서 선택 가능
      * tagify 라이브러리의 기능을 활용
      *
-     * whitelist를 작성하기 위해 모든 Tag를 가져와서 JSON타입으로 변환하기 위해 ObjectMapper를 주입받아 Tag리스트 객체를 JSON으로 바꿔줌
+     * 자동완성 목록(whitelist)은 화면에 넣지 않고 화면에서 /whitelist/tags로 따로 조회(WhitelistController, ETag로 캐시)
      */
     // 관심 주제 뷰로 라우팅
     @GetMapping(SETTINGS_TAGS_URL)
     public String updateTags(@CurrentUser Account account, Model model) {
-        model.addAttribute(account);
+        model.addAttribute("account", account);
         Set<Tag> tags = accountService.getTags(account); // AccountService에 태그 조회를 위임
         model.addAttribute("tags", tags.stream() // 받은 태그를 모델에 List<String> 형식으로 넘겨줌
                 .map(Tag::getTitle)
                 .collect(Collectors.toList()));
-        List<String> allTags = tagRepository.findAll()
-                .stream()
-                .map(Tag::getTitle)
-                .collect(Collectors.toList()); // TagRepository에서 전체 태그 목록을 가져와 리스트로 변환
-        String whitelist = null;
-        try {
-            whitelist = objectMapper.writeValueAsString(allTags); // List를 JSON 형태로 변환
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
-        }
-        model.addAttribute("whitelist", whitelist); // whitelist를 model로 전달
         return SETTINGS_TAGS_VIEW_NAME;
     }
 
@@ -185,11 +172,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     @PostMapping(SETTINGS_TAGS_URL + "/add")
     @ResponseStatus(HttpStatus.OK)
     public void addTag(@CurrentUser Account account, @RequestBody TagForm tagForm) {
-        String title = tagForm.getTagTitle(); // 태그 존재 여부 확인
-        Tag tag = tagRepository.findByTitle(title)
-                .orElseGet(() -> tagRepository.save(Tag.builder() 
-                        .title(title)
-                        .build())); // 존재하지 않을 경우 TagRepository를 이용해 저장
+        Tag tag = tagService.findOrCreateNew(tagForm.getTagTitle()); // 존재하지 않을 경우 저장, 자동완성 목록에도 반영
         accountService.addTag(account, tag); // 계정 정보에 태그를 추가해 주어야 하므로 AccountService에게 태그 추가를 위임
     }
 
@@ -205,16 +188,12 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
 
     // 지역 뷰로 라우팅
     @GetMapping(SETTINGS_ZONE_URL)
-    public String updateZonesForm(@CurrentUser Account account, Model model) throws JsonProcessingException {
-        model.addAttribute(account);
+    public String updateZonesForm(@CurrentUser Account account, Model model) {
+        model.addAttribute("account", account);
         Set<Zone> zones = accountService.getZones(account);
         model.addAttribute("zones", zones.stream()
                 .map(Zone::toString)
                 .collect(Collectors.toList()));
-        List<String> allZones = zoneRepository.findAll().stream()
-                .map(Zone::toString)
-                .collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
         return SETTINGS_ZONE_VIEW_NAME;
     }
 
@@ -222,7 +201,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     @PostMapping(SETTINGS_ZONE_URL + "/add")
     @ResponseStatus(HttpStatus.OK)
     public void addZone(@CurrentUser Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
+        Zone zone = zoneService.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
                 .orElseThrow(IllegalArgumentException::new);
         accountService.addZone(account, zone);
     }
@@ -231,7 +210,7 @@ public class SettingsController { // 계정 설정 관련 컨트롤러
     @PostMapping(SETTINGS_ZONE_URL + "/remove")
     @ResponseStatus(HttpStatus.OK)
     public void removeZone(@CurrentUser Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
+        Zone zone = zoneService.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
                 .orElseThrow(IllegalArgumentException::new);
         accountService.removeZone(account, zone);
     }
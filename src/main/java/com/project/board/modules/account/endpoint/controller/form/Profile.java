@@ -19,7 +19,9 @@ public class Profile {
     private String job;
     @Length(max = 50)
     private String location;
+    // 새로 업로드한 이미지(data URL), 비어 있으면 기존 이미지 유지
     private String image;
+    private String imageHash;
 
     public static Profile from(Account account) {
         return new Profile(account);
@@ -30,6 +32,6 @@ public class Profile {
         this.job = Optional.ofNullable(account.getProfile()).map(Account.Profile::getJob).orElse(null);
         this.url = Optional.ofNullable(account.getProfile()).map(Account.Profile::getUrl).orElse(null);
         this.location = Optional.ofNullable(account.getProfile()).map(Account.Profile::getLocation).orElse(null);
-        this.image = Optional.ofNullable(account.getProfile()).map(Account.Profile::getImage).orElse(null);
+        this.imageHash = Optional.ofNullable(account.getProfile()).map(Account.Profile::getImageHash).orElse(null);
     }
 }
@@ -0,0 +1,28 @@
+package com.project.board.modules.account.infra.projection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 로그인, RememberMe 자동 로그인에서 계정을 찾을 때 필요한 컬럼만 조회
+ * 인증 정보와 세션에 저장할 UserAccount를 만드는 데 필요한 값(이메일 인증 여부, 알림 설정)만 포함
+ * 짧은 시간 캐시하므로 불변 객체로 만들고, 분산 캐시로 교체할 수 있도록 Serializable 구현
+ */
+@Getter
+@RequiredArgsConstructor
+public class AccountCredentials implements Serializable {
+
+    private final Long accountId;
+    private final String email;
+    private final String nickname;
+    private final String password;
+    private final boolean emailVerified;
+    private final boolean studyCreatedByEmail;
+    private final boolean studyCreatedByWeb;
+    private final boolean studyRegistrationResultByEmail;
+    private final boolean studyRegistrationResultByWeb;
+    private final boolean studyUpdatedByEmail;
+    private final boolean studyUpdatedByWeb;
+}
@@ -1,8 +1,11 @@
 package com.project.board.modules.account.infra.repository;
 
 import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.infra.projection.AccountCredentials;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +35,14 @@ public interface AccountRepository extends JpaRepository<Account, Long>,
 
   Account findByNickname(String nickname);
 
+  // 로그인 계정 조회, 이메일 또는 닉네임(둘 다 unique 인덱스)을 한 번의 쿼리로 확인하고 인증, 세션 정보에 필요한 컬럼만 조회
+  @Query("select new com.project.board.modules.account.infra.projection.AccountCredentials(a.id, a.email, a.nickname, a.password, a.isValid, "
+      + "a.notificationSetting.studyCreatedByEmail, a.notificationSetting.studyCreatedByWeb, "
+      + "a.notificationSetting.studyRegistrationResultByEmail, a.notificationSetting.studyRegistrationResultByWeb, "
+      + "a.notificationSetting.studyUpdatedByEmail, a.notificationSetting.studyUpdatedByWeb) "
+      + "from Account a where a.email = :username or a.nickname = :username")
+  AccountCredentials findCredentialsByUsername(@Param("username") String username);
+
   // 로그인 후 홈 화면 진입
   @EntityGraph(attributePaths = {"tags", "zones"})
   Account findAccountWithTagsAndZonesById(Long id);
@@ -24,11 +24,12 @@ import java.lang.annotation.Target;
  * Custom Annotation을 생성하는 방법
  * Principal은 Authentication 객체를 생성할 때 필요한 첫 번째 파라미터로 사용자의 인증 정보를 담고 있음
  *
- *  @CurrentUser : Principal 객체에 담겨 있는 UserAccount의 account를 반환
+ *  @CurrentUser : Principal 객체에 담겨 있는 UserAccount의 id로 계정 엔티티를 반환
+ *  세션에는 계정 엔티티가 아닌 UserAccount(값만 보관)가 저장되므로 AccountLoader 빈(@accountLoader)으로 엔티티 참조를 얻음
  * */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.PARAMETER)
-@AuthenticationPrincipal(expression = "#this == 'anonymousUser' ? null : account")
+@AuthenticationPrincipal(expression = "#this == 'anonymousUser' ? null : @accountLoader.getReference(#this)")
 public @interface CurrentUser {
 
 }
@@ -0,0 +1,46 @@
+package com.project.board.modules.board.application;
+
+import com.project.board.modules.board.infra.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 전체 수 캐시
+ *
+ * 목록을 볼 때마다 count(*)를 실행하지 않고 주기적으로 갱신한 값을 사용(근사치)
+ * 글 작성, 삭제 시에는 바로 증감시켜 다음 갱신 전까지의 오차를 줄임
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardCountCache {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final BoardRepository boardRepository;
+    private final AtomicLong count = new AtomicLong(NOT_LOADED);
+
+    public long get() {
+        long cached = count.get();
+        if (cached == NOT_LOADED) {
+            refresh();
+            return count.get();
+        }
+        return cached;
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.count-refresh-interval-ms:60000}")
+    public void refresh() {
+        count.set(boardRepository.count());
+    }
+
+    public void increase() {
+        count.updateAndGet(c -> c == NOT_LOADED ? c : c + 1);
+    }
+
+    public void decrease() {
+        count.updateAndGet(c -> c <= 0 ? c : c - 1);
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.board.modules.board.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 keyset(seek) 페이징에 사용하는 커서
+ *
+ * 마지막으로 보여준 게시글 id를 담아 외부에는 의미를 알 수 없는 문자열(opaque token)로 전달
+ * 다음 페이지는 offset 없이 board_id < 마지막 id 조건으로 조회하므로 페이지가 깊어져도 조회 비용이 일정
+ */
+public final class BoardCursor {
+
+    private static final String PREFIX = "b:";
+
+    private BoardCursor() {
+    }
+
+    public static String encode(Long lastBoardId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastBoardId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (decoded.startsWith(PREFIX)) {
+                return Long.parseLong(decoded.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) { // 디코딩 실패, NumberFormatException 포함
+        }
+        throw new IllegalArgumentException("잘못된 페이지 정보입니다.");
+    }
+}
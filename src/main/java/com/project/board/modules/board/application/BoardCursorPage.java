@@ -0,0 +1,20 @@
+package com.project.board.modules.board.application;
+
+import com.project.board.modules.board.infra.projection.BoardListItem;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// keyset 페이징 결과, 다음 페이지 커서와 (캐시된) 전체 게시글 수를 함께 전달
+@Getter
+@RequiredArgsConstructor
+public class BoardCursorPage {
+    private final List<BoardListItem> content;
+    private final String nextCursor;
+    private final long approximateTotal;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,29 +1,50 @@
 package com.project.board.modules.board.application;
 
+import com.project.board.modules.board.application.search.BoardSearchEngine;
 import com.project.board.modules.board.domain.entity.Board;
+import com.project.board.modules.board.infra.BoardCommentRepository;
 import com.project.board.modules.board.infra.BoardRepository;
+import com.project.board.modules.board.infra.projection.BoardCommentCount;
+import com.project.board.modules.board.infra.projection.BoardCommentItem;
+import com.project.board.modules.board.infra.projection.BoardDetail;
+import com.project.board.modules.board.infra.projection.BoardListItem;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import javax.transaction.Transactional;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BoardService {
+    // 목록 화면에서 offset 페이징을 사용하는 페이지 수, 이후 페이지는 커서(keyset) 페이징 사용
+    public static final int OFFSET_PAGE_LIMIT = 5;
+
     private final BoardRepository boardRepository;
+    private final BoardCommentRepository boardCommentRepository;
+    private final BoardVisitCounter boardVisitCounter;
+    private final BoardSearchEngine boardSearchEngine;
+    private final BoardCountCache boardCountCache;
 
-    private ThreadLocal<Long> countVisitStore = new ThreadLocal<>();
+    @Value("${app.board.approximate-count:true}")
+    private boolean approximateCount;
 
     @Transactional
     public Long saveBoard(Board board) {
-        boardRepository.save(board.toEntity());
-        return board.getId();
+        Board savedBoard = boardRepository.save(board.toEntity());
+        boardSearchEngine.index(savedBoard);
+        boardCountCache.increase();
+        return savedBoard.getId();
     }
 
     public List<Board> findAll() {
@@ -35,6 +56,61 @@ public class BoardService {
         return boardRepository.findAll(pageable);
     }
 
+    // 게시글 검색, 설정된 검색 엔진(색인 또는 LIKE)에 위임
+    public Page<BoardListItem> search(String searchText, Pageable pageable) {
+        return withCommentCounts(boardSearchEngine.search(searchText, pageable));
+    }
+
+    /**
+     * 검색어 없는 목록의 앞쪽 페이지(offset 페이징)
+     * approximate-count 설정 시 count 쿼리 대신 캐시된 전체 게시글 수 사용
+     */
+    public Page<BoardListItem> getLatestBoards(Pageable pageable) {
+        if (!approximateCount) {
+            return withCommentCounts(boardRepository.findListItems(PageRequest.of(pageable.getPageNumber(),
+                    pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "id"))));
+        }
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        List<BoardListItem> boards = boardRepository.findLatestListItems(unsorted);
+        return withCommentCounts(new PageImpl<>(boards, unsorted, boardCountCache.get()));
+    }
+
+    /**
+     * 커서 기반(keyset) 목록 조회
+     * board_id < 커서 조건으로 다음 페이지를 조회하고, 한 건 더 조회해서 다음 페이지 존재 여부 판단
+     */
+    public BoardCursorPage getBoardsAfter(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<BoardListItem> boards = cursor == null
+                ? boardRepository.findLatestListItems(limit)
+                : boardRepository.findListItemsBefore(BoardCursor.decode(cursor), limit);
+        String nextCursor = null;
+        if (boards.size() > size) {
+            boards = boards.subList(0, size);
+            nextCursor = BoardCursor.encode(boards.get(size - 1).getId());
+        }
+        fillCommentCounts(boards);
+        return new BoardCursorPage(boards, nextCursor, boardCountCache.get());
+    }
+
+    private Page<BoardListItem> withCommentCounts(Page<BoardListItem> boards) {
+        fillCommentCounts(boards.getContent());
+        return boards;
+    }
+
+    // 페이지에 포함된 게시글의 댓글 수를 group by 쿼리 한 번으로 조회해서 채움
+    private void fillCommentCounts(List<BoardListItem> boards) {
+        if (boards.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> commentCounts = boardCommentRepository.countByBoardIds(boards.stream()
+                        .map(BoardListItem::getId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(BoardCommentCount::getBoardId, BoardCommentCount::getCommentCount));
+        boards.forEach(board -> board.updateCommentCount(commentCounts.getOrDefault(board.getId(), 0L)));
+    }
+
     public Page<Board> paging(int page) {
         return boardRepository.findAll(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
     }
@@ -45,47 +121,41 @@ public class BoardService {
                 new IllegalStateException("해당 게시글이 존재하지 않습니다.")));
 
         boards.update(board.getTitle(), board.getContent());
+        boardSearchEngine.index(boards);
         return id;
     }
 
     public void deleteBoard(Long id){
         boardRepository.deleteById(id);
+        boardVisitCounter.discard(id);
+        boardSearchEngine.remove(id);
+        boardCountCache.decrease();
     }
 
 
-    // 조회수
-    @Transactional
-    public void updateVisit(Long id, Board boards) {
-        Board board = boardRepository.findById(id).orElseThrow((() ->
-                new IllegalStateException("해당 게시글이 존재하지 않습니다.")));
-
-        board.updateVisit(boards.getCountVisit());
+    // 조회수, 게시글을 다시 조회하거나 수정하지 않고 카운터에만 누적
+    public void increaseVisit(Long id) {
+        boardVisitCounter.increment(id);
     }
 
-    public Board findById(Long id){
-        Board board = boardRepository.findById(id).get();
-        return board;
+    // DB에 반영된 조회수와 아직 반영되지 않은 조회수를 합산
+    public Long getCountVisit(BoardDetail board) {
+        long countVisit = board.getCountVisit() == null ? 0L : board.getCountVisit();
+        return countVisit + boardVisitCounter.pendingOf(board.getId());
     }
 
-    @Transactional
-    public Long countVisitLogic(Long id) {
-
-        Board board = boardRepository.findById(id).orElseThrow((() ->
-                new IllegalStateException("해당 게시글이 존재하지 않습니다.")));
-
-        countVisitStore.set(board.getCountVisit() + 1L);
-        board.updateVisit(countVisitStore.get());
-        sleep(100);
+    // 게시글 상세 화면, 게시글 조회 1회 + 댓글 페이지 조회 1회
+    public BoardDetail getBoardDetail(Long id) {
+        return boardRepository.findDetailById(id).orElseThrow(() ->
+                new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
+    }
 
-        countVisitStore.remove();
-        return countVisitStore.get();
+    public Slice<BoardCommentItem> getComments(Long boardId, Pageable pageable) {
+        return boardCommentRepository.findCommentItems(boardId, pageable);
     }
 
-    private void sleep(int millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+    public Board findById(Long id){
+        Board board = boardRepository.findById(id).get();
+        return board;
     }
 }
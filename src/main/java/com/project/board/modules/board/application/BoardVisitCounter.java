@@ -0,0 +1,113 @@
+package com.project.board.modules.board.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 카운터
+ *
+ * 조회할 때마다 게시글 row를 읽고 수정하면 인기 게시글은 row lock을 두고 요청이 직렬화되고 증가분이 유실됨
+ * 조회수는 게시글별 LongAdder에 메모리로 누적하고, 일정 주기마다 누적된 증가분만 모아서 batch update로 반영(write-behind)
+ *
+ * LongAdder : 내부적으로 셀을 나눠(striping) 경합을 분산시키는 카운터, 동시 증가가 많은 경우 AtomicLong보다 유리
+ * 증가와 빈 항목 제거는 ConcurrentHashMap.compute로 같은 키에 대해 원자적으로 처리(다른 게시글의 증가와는 경합하지 않음)
+ */
+@Slf4j
+@Component
+public class BoardVisitCounter {
+
+    private static final String UPDATE_COUNT_VISIT_SQL =
+            "update board set count_visit = coalesce(count_visit, 0) + ? where board_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LongAdder> pendingVisits = new ConcurrentHashMap<>();
+
+    public BoardVisitCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("board.visit.pending", this, BoardVisitCounter::pendingDeltaSize)
+                .description("DB에 아직 반영되지 않은 조회수 증가분")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가, DB에는 flush 시점에 반영
+     * flush가 사용하지 않는 항목을 제거할 때 증가분이 제거된 adder에 더해지지 않도록 compute로 키 단위 원자적으로 증가
+     */
+    public void increment(Long boardId) {
+        pendingVisits.compute(boardId, (id, adder) -> {
+            if (adder == null) {
+                adder = new LongAdder();
+            }
+            adder.increment();
+            return adder;
+        });
+    }
+
+    // 아직 반영되지 않은 조회수, 화면에 보여줄 때 DB 값에 더해서 사용
+    public long pendingOf(Long boardId) {
+        LongAdder adder = pendingVisits.get(boardId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    // 삭제된 게시글의 증가분은 반영할 필요가 없으므로 제거
+    public void discard(Long boardId) {
+        pendingVisits.remove(boardId);
+    }
+
+    public long pendingDeltaSize() {
+        return pendingVisits.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * 누적된 증가분을 꺼내(sumThenReset) count_visit = count_visit + ? 형태로 한 번에 반영
+     * 반영에 실패하면 꺼낸 증가분을 다시 더해 다음 주기에 재시도
+     * 한 주기 동안 조회가 없던 게시글의 항목은 맵에서 제거해 맵이 계속 커지지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${app.board.visit-flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        pendingVisits.forEach((boardId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batchArgs.add(new Object[]{delta, boardId});
+            } else {
+                // 그 사이 증가한 값이 있으면 남겨두고, increment와 같은 키 잠금 안에서 확인하고 제거
+                pendingVisits.computeIfPresent(boardId, (id, current) -> current.sum() == 0 ? null : current);
+            }
+        });
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_COUNT_VISIT_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            log.error("failed to flush board visit count", e);
+            batchArgs.forEach(args -> pendingVisits.compute((Long) args[1], (id, adder) -> {
+                if (adder == null) {
+                    adder = new LongAdder();
+                }
+                adder.add((Long) args[0]);
+                return adder;
+            }));
+        }
+    }
+
+    // 애플리케이션 종료 시 남아있는 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.board.modules.board.application.search;
+
+import com.project.board.modules.board.domain.entity.Board;
+import com.project.board.modules.board.infra.projection.BoardListItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 게시글 검색 엔진
+ *
+ * app.board.search-mode 설정으로 구현체 선택
+ *  - index(기본) : 메모리 역색인(inverted index)을 이용한 검색
+ *  - like : 기존 제목/내용 LIKE 검색
+ *
+ * 게시글 생성, 수정, 삭제 시 BoardService에서 index, remove를 호출해 색인을 최신 상태로 유지
+ * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영
+ */
+public interface BoardSearchEngine {
+
+    Page<BoardListItem> search(String searchText, Pageable pageable);
+
+    void index(Board board);
+
+    void remove(Long boardId);
+}
@@ -0,0 +1,177 @@
+package com.project.board.modules.board.application.search;
+
+import com.project.board.infra.search.NGramTokenizer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 역색인(inverted index)
+ *
+ * 한국어는 띄어쓰기 단위로는 부분 검색이 어려우므로 단어를 2글자 단위(bigram)로 잘라 색인(NGramTokenizer)
+ * 검색어의 모든 bigram을 가진 게시글을 후보로 고른 뒤, 제목이나 내용에 검색어가 실제로 들어 있는지 다시 확인해서
+ * 기존 LIKE 검색과 같은 게시글을 반환(bigram이 떨어져서 등장한 게시글은 제외)
+ * 검색어에 한 글자 단어가 있으면 bigram으로 찾을 수 없으므로 전체 게시글을 확인(StudySearchIndex와 같은 방식)
+ * 정렬은 제목에 등장한 경우 가중치를 더 줘서 계산한 점수 순
+ *
+ * 색인 변경은 쓰기 락, 검색은 읽기 락으로 보호
+ */
+class BoardSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> termsByBoard = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(Long boardId, String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        NGramTokenizer.bigrams(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        NGramTokenizer.bigrams(content).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        lock.writeLock().lock();
+        try {
+            removeInternal(boardId);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(boardId, frequency));
+            termsByBoard.put(boardId, frequencies.keySet());
+            documents.put(boardId, new Document(title, content));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByBoard.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return termsByBoard.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제목이나 내용에 검색어가 들어 있는 게시글 id를 점수 순으로 반환
+     * 점수 : bigram 빈도 * idf(log(1 + 전체 문서 수 / bigram을 가진 문서 수))의 합, 동점이면 최신 글(id 내림차순) 우선
+     */
+    List<Long> search(String searchText) {
+        if (searchText == null || searchText.isEmpty()) {
+            return List.of();
+        }
+        String keyword = searchText.toLowerCase(Locale.ROOT);
+        Set<String> terms = new HashSet<>(NGramTokenizer.bigrams(searchText));
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> matched = new ArrayList<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    matched.add(posting);
+                } else if (term.length() == 2) { // 검색어의 bigram이 없는 게시글은 검색어를 포함할 수 없음
+                    return List.of();
+                }
+            }
+            int documentCount = termsByBoard.size();
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long boardId : candidates(terms, matched)) {
+                if (!documents.get(boardId).contains(keyword)) {
+                    continue;
+                }
+                double score = 0;
+                for (Map<Long, Integer> posting : matched) {
+                    Integer frequency = posting.get(boardId);
+                    if (frequency != null) {
+                        score += frequency * Math.log(1 + (double) documentCount / posting.size());
+                    }
+                }
+                scores.put(boardId, score);
+            }
+            List<Long> result = new ArrayList<>(scores.keySet());
+            result.sort(Comparator.<Long>comparingDouble(scores::get).reversed()
+                    .thenComparing(Comparator.<Long>reverseOrder()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 bigram을 모두 가진 게시글, 검색어가 없거나 한 글자 단어가 있으면 전체 게시글
+    private Collection<Long> candidates(Set<String> terms, List<Map<Long, Integer>> matched) {
+        if (terms.isEmpty() || terms.stream().anyMatch(term -> term.length() < 2)) {
+            return documents.keySet();
+        }
+        matched.sort(Comparator.comparingInt(Map::size)); // 가장 적은 posting부터 교집합
+        List<Long> candidates = new ArrayList<>();
+        candidates:
+        for (Long boardId : matched.get(0).keySet()) {
+            for (Map<Long, Integer> posting : matched) {
+                if (!posting.containsKey(boardId)) {
+                    continue candidates;
+                }
+            }
+            candidates.add(boardId);
+        }
+        return candidates;
+    }
+
+    private void removeInternal(Long boardId) {
+        documents.remove(boardId);
+        Set<String> terms = termsByBoard.remove(boardId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(boardId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // LIKE 검색처럼 제목이나 내용에 검색어가 그대로 들어 있는지 확인하기 위해 소문자로 보관
+    private static class Document {
+        private final String title;
+        private final String content;
+
+        private Document(String title, String content) {
+            this.title = title == null ? "" : title.toLowerCase(Locale.ROOT);
+            this.content = content == null ? "" : content.toLowerCase(Locale.ROOT);
+        }
+
+        private boolean contains(String keyword) {
+            return title.contains(keyword) || content.contains(keyword);
+        }
+    }
+}
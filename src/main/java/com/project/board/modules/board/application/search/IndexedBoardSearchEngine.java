@@ -0,0 +1,88 @@
+package com.project.board.modules.board.application.search;
+
+import com.project.board.infra.transaction.AfterCommit;
+import com.project.board.modules.board.domain.entity.Board;
+import com.project.board.modules.board.infra.BoardRepository;
+import com.project.board.modules.board.infra.projection.BoardIndexSource;
+import com.project.board.modules.board.infra.projection.BoardListItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 역색인을 이용한 게시글 검색
+ *
+ * 검색할 때마다 제목, 내용에 LIKE '%검색어%'를 걸면 매번 테이블 전체를 읽게 되므로
+ * 애플리케이션 시작 시 DB에서 색인을 만들고, 이후에는 게시글 변경 시점에 색인만 갱신
+ * 변경은 트랜잭션이 커밋된 뒤에 색인에 반영해서 롤백된 게시글이 검색되지 않도록 함(AfterCommit)
+ * 검색 결과는 색인에서 점수 순으로 정렬한 id 중 해당 페이지 분량만 DB에서 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.board", name = "search-mode", havingValue = "index", matchIfMissing = true)
+public class IndexedBoardSearchEngine implements BoardSearchEngine {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final BoardRepository boardRepository;
+    private final BoardSearchIndex boardSearchIndex = new BoardSearchIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        boardSearchIndex.clear();
+        long lastId = 0L;
+        List<BoardIndexSource> sources;
+        do {
+            sources = boardRepository.findIndexSourceAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (BoardIndexSource source : sources) {
+                boardSearchIndex.put(source.getId(), source.getTitle(), source.getContent());
+                lastId = source.getId();
+            }
+        } while (sources.size() == REBUILD_BATCH_SIZE);
+        log.info("board search index rebuilt: {} boards", boardSearchIndex.size());
+    }
+
+    @Override
+    public Page<BoardListItem> search(String searchText, Pageable pageable) {
+        if (searchText == null || searchText.isBlank()) {
+            return boardRepository.findListItems(pageable);
+        }
+        List<Long> rankedIds = boardSearchIndex.search(searchText);
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+        Map<Long, Integer> rank = pageIds.stream()
+                .collect(Collectors.toMap(Function.identity(), pageIds::indexOf));
+        List<BoardListItem> boards = boardRepository.findListItemsByIdIn(pageIds).stream()
+                .sorted(Comparator.comparing(board -> rank.get(board.getId())))
+                .collect(Collectors.toList());
+        return new PageImpl<>(boards, pageable, rankedIds.size());
+    }
+
+    @Override
+    public void index(Board board) {
+        Long boardId = board.getId();
+        String title = board.getTitle();
+        String content = board.getContent();
+        AfterCommit.execute(() -> boardSearchIndex.put(boardId, title, content));
+    }
+
+    @Override
+    public void remove(Long boardId) {
+        AfterCommit.execute(() -> boardSearchIndex.remove(boardId));
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.board.modules.board.application.search;
+
+import com.project.board.modules.board.domain.entity.Board;
+import com.project.board.modules.board.infra.BoardRepository;
+import com.project.board.modules.board.infra.projection.BoardListItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+// 색인 없이 제목, 내용 LIKE 검색을 수행하는 fallback 구현체
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.board", name = "search-mode", havingValue = "like")
+public class LikeBoardSearchEngine implements BoardSearchEngine {
+
+    private final BoardRepository boardRepository;
+
+    @Override
+    public Page<BoardListItem> search(String searchText, Pageable pageable) {
+        return boardRepository.searchListItems(searchText, pageable);
+    }
+
+    @Override
+    public void index(Board board) {
+    }
+
+    @Override
+    public void remove(Long boardId) {
+    }
+}
@@ -6,7 +6,6 @@ import com.project.board.modules.board.application.BoardCommentService;
 import com.project.board.modules.board.application.BoardService;
 import com.project.board.modules.board.domain.entity.Board;
 import com.project.board.modules.board.domain.entity.BoardComment;
-import com.project.board.modules.board.infra.BoardCommentRepository;
 import com.project.board.modules.board.infra.BoardRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,7 +15,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
@@ -25,7 +23,6 @@ public class BoardCommentController {
 
     private final BoardCommentService boardCommentService;
     private final BoardRepository boardRepository;
-    private final BoardCommentRepository boardCommentRepository;
     private final AccountRepository accountRepository;
 
     // 댓글 작성
@@ -36,7 +33,7 @@ public class BoardCommentController {
         UserDetails userDetails = (UserDetails) principal;
         String username = userDetails.getUsername();
 
-        Board board = boardRepository.findById(id).get();
+        Board board = boardRepository.getById(id); // 연관관계 설정에는 id만 필요하므로 프록시(참조)만 가져옴
         Account account = accountRepository.findByNickname(username);
 
         LocalDateTime now = LocalDateTime.now();
@@ -49,10 +46,6 @@ public class BoardCommentController {
 
         boardCommentService.saveBoardComment(boardComment);
 
-        List<BoardComment> comments = boardCommentRepository.findCommentId(id);
-
-        model.addAttribute("comments", comments);
-        model.addAttribute(board);
-        return "board/boardContent";
+        return "redirect:/board/boardContent/" + id; // 상세 화면에서 게시글과 댓글을 다시 조회
     }
 }
@@ -3,14 +3,18 @@ package com.project.board.modules.board.endpoint;
 import com.project.board.modules.account.domain.entity.Account;
 import com.project.board.modules.account.infra.repository.AccountRepository;
 import com.project.board.modules.board.application.BoardCommentService;
+import com.project.board.modules.board.application.BoardCursor;
+import com.project.board.modules.board.application.BoardCursorPage;
 import com.project.board.modules.board.application.BoardService;
 import com.project.board.modules.board.domain.entity.Board;
-import com.project.board.modules.board.domain.entity.BoardComment;
-import com.project.board.modules.board.infra.BoardCommentRepository;
 import com.project.board.modules.board.infra.BoardRepository;
+import com.project.board.modules.board.infra.projection.BoardCommentItem;
+import com.project.board.modules.board.infra.projection.BoardDetail;
+import com.project.board.modules.board.infra.projection.BoardListItem;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,7 +31,6 @@ public class BoardController {
 
     private final BoardService boardService;
     private final BoardRepository boardRepository;
-    private final BoardCommentRepository boardCommentRepository;
 
     // 글 작성 뷰
     @GetMapping("/boardForm")
@@ -51,35 +54,54 @@ public class BoardController {
 
     // 게시판 리스트
     // 페이징 처리, 검색
+    // 검색어가 없는 경우 앞쪽 몇 페이지만 offset 페이징을 사용하고, 이후에는 커서(keyset) 페이징으로 이동
     @GetMapping("/boardList")
     public String viewBoardList(Model model, @PageableDefault(size = 10) Pageable pageable,
-                            @RequestParam(required = false, defaultValue = "") String searchText) {
-
-        Page<Board> boards = boardRepository.findByTitleContainingOrContentContaining(searchText, searchText, pageable);
+                            @RequestParam(required = false, defaultValue = "") String searchText,
+                            @RequestParam(required = false) String cursor) {
+
+        if (cursor != null && searchText.isBlank()) {
+            BoardCursorPage boards = boardService.getBoardsAfter(cursor, pageable.getPageSize());
+            model.addAttribute("boards", boards.getContent());
+            model.addAttribute("nextCursor", boards.getNextCursor());
+            model.addAttribute("totalCount", boards.getApproximateTotal());
+            model.addAttribute("cursorMode", true);
+            return "/board/boardList";
+        }
+
+        Page<BoardListItem> boards = searchText.isBlank()
+                ? boardService.getLatestBoards(pageable)
+                : boardService.search(searchText, pageable);
 
         int startPage = Math.max(1, boards.getPageable().getPageNumber() - 1);
         int endPage = Math.min(boards.getTotalPages(), boards.getPageable().getPageNumber() + 3);
 
+        String nextCursor = null;
+        if (searchText.isBlank() && boards.hasNext() && boards.getNumber() + 1 >= BoardService.OFFSET_PAGE_LIMIT) {
+            List<BoardListItem> content = boards.getContent();
+            nextCursor = BoardCursor.encode(content.get(content.size() - 1).getId());
+            endPage = Math.min(endPage, BoardService.OFFSET_PAGE_LIMIT);
+        }
+
         model.addAttribute("boards", boards);
         model.addAttribute("startPage", startPage);
         model.addAttribute("endPage", endPage);
+        model.addAttribute("nextCursor", nextCursor);
+        model.addAttribute("cursorMode", false);
         return "/board/boardList";
     }
 
     // 상세 내용
+    // 게시글과 댓글 페이지를 각각 한 번씩 조회(댓글 작성자 닉네임은 댓글 조회 시 함께 조회)
     @GetMapping("/boardContent/{id}")
-    public String boardContent(@PathVariable("id") Long id, Model model) {
-        Board boards = boardRepository.findById(id).get();
-        List<BoardComment> comments = boardCommentRepository.findCommentId(id);
+    public String boardContent(@PathVariable("id") Long id, Model model, @PageableDefault(size = 50) Pageable pageable) {
+        BoardDetail board = boardService.getBoardDetail(id);
+        Slice<BoardCommentItem> comments = boardService.getComments(id, pageable);
 
-        Board board = Board.builder()
-                .countVisit(boards.getCountVisit())
-                .build();
+        boardService.increaseVisit(id);
 
-        boardService.updateVisit(boards.getId(), board);
-        boardService.countVisitLogic(id);
-
-        model.addAttribute(boards);
+        model.addAttribute("board", board);
+        model.addAttribute("countVisit", boardService.getCountVisit(board));
         model.addAttribute("comments", comments);
         return "board/boardContent";
     }
@@ -1,13 +1,32 @@
 package com.project.board.modules.board.infra;
 
 import com.project.board.modules.board.domain.entity.BoardComment;
+import com.project.board.modules.board.infra.projection.BoardCommentCount;
+import com.project.board.modules.board.infra.projection.BoardCommentItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BoardCommentRepository extends JpaRepository<BoardComment, Long> {
     @Query("select c from BoardComment c where c.board.id = :id")
     List<BoardComment> findCommentId(@Param("id") Long id);
+
+    /**
+     * 게시글 상세 화면 댓글 조회
+     * 작성자 닉네임을 join으로 함께 조회해서 댓글마다 Account를 지연 로딩하지 않도록 하고,
+     * 댓글이 많은 게시글을 위해 Slice로 페이징(count 쿼리 없이 다음 페이지 존재 여부만 확인)
+     */
+    @Query("select new com.project.board.modules.board.infra.projection.BoardCommentItem(c.id, c.content, c.createdDate, coalesce(a.nickname, c.writer)) " +
+            "from BoardComment c left join c.account a where c.board.id = :boardId and c.deleteCheck = 'N' order by c.id")
+    Slice<BoardCommentItem> findCommentItems(@Param("boardId") Long boardId, Pageable pageable);
+
+    // 목록 화면에 표시할 게시글별 댓글 수, 페이지에 포함된 게시글 id로 한 번에 집계
+    @Query("select c.board.id as boardId, count(c) as commentCount from BoardComment c " +
+            "where c.board.id in :boardIds and c.deleteCheck = 'N' group by c.board.id")
+    List<BoardCommentCount> countByBoardIds(@Param("boardIds") Collection<Long> boardIds);
 }
@@ -1,10 +1,45 @@
 package com.project.board.modules.board.infra;
 
 import com.project.board.modules.board.domain.entity.Board;
+import com.project.board.modules.board.infra.projection.BoardDetail;
+import com.project.board.modules.board.infra.projection.BoardIndexSource;
+import com.project.board.modules.board.infra.projection.BoardListItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
-    Page<Board> findByTitleContainingOrContentContaining(String searchText, String searchText1, Pageable pageable);
+    // 목록 화면용 projection 조회, 본문과 작성자 계정은 조회하지 않음
+    @Query(value = "select new com.project.board.modules.board.infra.projection.BoardListItem(b.id, b.title, b.writer, b.createdDate, b.countVisit) from Board b",
+            countQuery = "select count(b) from Board b")
+    Page<BoardListItem> findListItems(Pageable pageable);
+
+    @Query(value = "select new com.project.board.modules.board.infra.projection.BoardListItem(b.id, b.title, b.writer, b.createdDate, b.countVisit) from Board b " +
+            "where b.title like concat('%', :searchText, '%') or b.content like concat('%', :searchText, '%')",
+            countQuery = "select count(b) from Board b where b.title like concat('%', :searchText, '%') or b.content like concat('%', :searchText, '%')")
+    Page<BoardListItem> searchListItems(@Param("searchText") String searchText, Pageable pageable);
+
+    @Query("select new com.project.board.modules.board.infra.projection.BoardListItem(b.id, b.title, b.writer, b.createdDate, b.countVisit) from Board b where b.id in :ids")
+    List<BoardListItem> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 게시글 목록 keyset 페이징, count 쿼리 없이 board_id 내림차순으로 size만큼 조회
+    @Query("select new com.project.board.modules.board.infra.projection.BoardListItem(b.id, b.title, b.writer, b.createdDate, b.countVisit) from Board b order by b.id desc")
+    List<BoardListItem> findLatestListItems(Pageable pageable);
+
+    @Query("select new com.project.board.modules.board.infra.projection.BoardListItem(b.id, b.title, b.writer, b.createdDate, b.countVisit) from Board b where b.id < :id order by b.id desc")
+    List<BoardListItem> findListItemsBefore(@Param("id") Long id, Pageable pageable);
+
+    // 게시글 상세 화면용 조회, 작성자 계정 join 없이 게시글 컬럼만 조회
+    @Query("select new com.project.board.modules.board.infra.projection.BoardDetail(b.id, b.title, b.content, b.writer, b.createdDate, b.countVisit) from Board b where b.id = :id")
+    Optional<BoardDetail> findDetailById(@Param("id") Long id);
+
+    // 검색 색인 재생성용, id 기준으로 끊어서 조회
+    @Query("select b.id as id, b.title as title, b.content as content from Board b where b.id > :lastId order by b.id")
+    List<BoardIndexSource> findIndexSourceAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
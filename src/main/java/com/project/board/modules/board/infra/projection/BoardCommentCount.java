@@ -0,0 +1,8 @@
+package com.project.board.modules.board.infra.projection;
+
+// 게시글별 댓글 수 집계 결과
+public interface BoardCommentCount {
+    Long getBoardId();
+
+    Long getCommentCount();
+}
@@ -0,0 +1,16 @@
+package com.project.board.modules.board.infra.projection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 화면의 댓글 한 건, 작성자는 화면에 표시할 닉네임만 담음
+@Getter
+@RequiredArgsConstructor
+public class BoardCommentItem {
+    private final Long id;
+    private final String content;
+    private final LocalDateTime createdDate;
+    private final String writer;
+}
@@ -0,0 +1,18 @@
+package com.project.board.modules.board.infra.projection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 화면용 DTO, 작성자 계정(Account)과 댓글 컬렉션은 조회하지 않음
+@Getter
+@RequiredArgsConstructor
+public class BoardDetail {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String writer;
+    private final LocalDateTime createdDate;
+    private final Long countVisit;
+}
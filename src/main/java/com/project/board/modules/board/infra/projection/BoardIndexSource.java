@@ -0,0 +1,10 @@
+package com.project.board.modules.board.infra.projection;
+
+// 검색 색인을 만들 때 필요한 컬럼만 조회하기 위한 projection
+public interface BoardIndexSource {
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+}
@@ -0,0 +1,33 @@
+package com.project.board.modules.board.infra.projection;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 목록 화면에 필요한 컬럼만 담는 DTO
+ *
+ * 목록에서는 본문(content)과 작성자 계정(Account)이 필요 없으므로 엔티티 대신 생성자 표현식(select new)으로 필요한 컬럼만 조회
+ * 댓글 수는 페이지에 포함된 게시글에 대해 group by 쿼리 한 번으로 조회해서 채움
+ */
+@Getter
+public class BoardListItem {
+    private final Long id;
+    private final String title;
+    private final String writer;
+    private final LocalDateTime createdDate;
+    private final Long countVisit;
+    private long commentCount;
+
+    public BoardListItem(Long id, String title, String writer, LocalDateTime createdDate, Long countVisit) {
+        this.id = id;
+        this.title = title;
+        this.writer = writer;
+        this.createdDate = createdDate;
+        this.countVisit = countVisit;
+    }
+
+    public void updateCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.board.modules.event.application;
+
+import com.project.board.modules.event.infra.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모임의 참가 확정 인원(Event.acceptedCount)을 참가 내역 기준으로 다시 계산하는 작업
+ *
+ * acceptedCount 컬럼이 추가되기 전에 만들어진 모임은 값이 0이므로 배포할 때 한 번만 맞춰주는 마이그레이션
+ * 다른 서버가 참가 신청을 처리하는 중에 실행하면 전체 UPDATE가 그 사이에 바뀐 값을 덮어쓸 수 있으므로 기본으로 꺼져 있음
+ * acceptedCount 컬럼을 처음 배포할 때 서버 한 대만 app.event.recount-on-startup=true로 실행하고, 다음 배포부터는 설정을 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.event", name = "recount-on-startup", havingValue = "true")
+public class AcceptedCountRecountJob {
+
+    private final EventRepository eventRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recount() {
+        int updated = eventRepository.recountAcceptedCount();
+        log.info("accepted count recounted for {} events", updated);
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.board.modules.event.application;
+
+/**
+ * 이미 참가 신청한 모임에 다시 신청한 경우
+ * 신청 버튼을 두 번 누르는 등 사용자가 충분히 할 수 있는 동작이므로 에러 페이지 대신 모임 화면에 메시지로 안내
+ */
+public class AlreadyEnrolledException extends IllegalStateException {
+
+    public AlreadyEnrolledException() {
+        super("이미 참가 신청한 모임입니다.");
+    }
+
+    public AlreadyEnrolledException(Throwable cause) {
+        super("이미 참가 신청한 모임입니다.", cause);
+    }
+}
@@ -11,12 +11,20 @@ import com.project.board.modules.event.event.EnrollmentRejectedEvent;
 import com.project.board.modules.event.infra.repository.EnrollmentRepository;
 import com.project.board.modules.event.infra.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+/**
+ * 참가 확정 인원은 Event.acceptedCount(좌석 카운터)로 관리
+ * 좌석은 EventRepository의 조건부 UPDATE로 확보(reserveSeat)하고 반납(releaseSeat)하므로
+ * 동시에 참가 신청이 몰려도 정원을 넘겨서 참가가 확정되지 않음
+ */
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -28,16 +36,18 @@ public class EventService {
 
     /**
      * 모임 생성과 관련된 이벤트는 StudyEventListener에서 처리하도록 StudyUpdateEvent로 처리
+     * 모임이 저장된 뒤에 이벤트를 발생시켜 같은 트랜잭션에서 outbox에 기록되도록 함
      */
     public Event createEvent(Study study, EventForm eventForm, Account account) {
-        Event event = Event.from(eventForm, account, study);
+        Event event = eventRepository.save(Event.from(eventForm, account, study));
         eventPublisher.publishEvent(new StudyUpdateEvent(event.getStudy(), "'" + event.getTitle() + "' 모임이 생성되었습니다."));
-        return eventRepository.save(event);
+        return event;
     }
 
     public void updateEvent(Event event, EventForm eventForm) {
         event.updateFrom(eventForm);
-        event.acceptWaitingList(); // 모임 인원 수정시에도 반영될 수 있게 대기 목록에 있는 사용자들을 추가시킴
+        eventRepository.flush(); // 변경된 정원을 먼저 반영해야 조건부 UPDATE가 새 정원 기준으로 좌석을 확보함
+        acceptWaitingList(event); // 모임 인원 수정시에도 반영될 수 있게 대기 목록에 있는 사용자들을 추가시킴
         eventPublisher.publishEvent(new StudyUpdateEvent(event.getStudy(), "'" + event.getTitle() + "' 모임 정보가 수정되었습니다."));
     }
 
@@ -46,11 +56,22 @@ public class EventService {
         eventPublisher.publishEvent(new StudyUpdateEvent(event.getStudy(), "'" + event.getTitle() + "' 모임이 취소되었습니다."));
     }
 
+    /**
+     * 선착순 모임은 좌석을 확보했을 때만 참가 확정, 확보하지 못하면 대기 상태로 저장
+     * 이미 신청했으면 AlreadyEnrolledException, 컨트롤러에서 모임 화면으로 돌려보내면서 메시지로 안내
+     * 동시에 같은 계정으로 신청한 경우는 (event, account) 유니크 제약으로 막고, 이때는 확보한 좌석도 함께 롤백됨
+     */
     public void enroll(Event event, Account account) {
-        if (!enrollmentRepository.existsByEventAndAccount(event, account)) { // 모임에 해당 계정이 참가한 내역 여부 확인
-            Enrollment enrollment = Enrollment.of(LocalDateTime.now(), event.isAbleToAcceptWaitingEnrollment(), account); // 참가 내역이 없으므로 참가 정보를 생성
-            event.addEnrollment(enrollment); // 모임에 참가 정보 등록
-            enrollmentRepository.save(enrollment); // 참가 정보 저장
+        if (enrollmentRepository.existsByEventAndAccount(event, account)) { // 모임에 해당 계정이 참가한 내역 여부 확인
+            throw new AlreadyEnrolledException();
+        }
+        boolean accepted = event.isFirstComeFirstServed() && reserveSeat(event);
+        Enrollment enrollment = Enrollment.of(LocalDateTime.now(), accepted, account); // 참가 내역이 없으므로 참가 정보를 생성
+        event.addEnrollment(enrollment); // 모임에 참가 정보 등록
+        try {
+            enrollmentRepository.saveAndFlush(enrollment); // 참가 정보 저장
+        } catch (DataIntegrityViolationException e) {
+            throw new AlreadyEnrolledException(e);
         }
     }
 
@@ -59,7 +80,10 @@ public class EventService {
         if (!enrollment.isAttended()) {
             event.removeEnrollment(enrollment); // 모임에서 참가 내역 삭제
             enrollmentRepository.delete(enrollment); // 참가 정보 삭제
-            event.acceptNextIfAvailable(); // 모임에서 다음 대기자를 참가 상태로 변경
+            if (enrollment.isAccepted()) {
+                releaseSeat(event);
+            }
+            acceptWaitingList(event); // 모임에서 다음 대기자를 참가 상태로 변경
         }
     }
 
@@ -67,12 +91,17 @@ public class EventService {
      * 참가 관련 이벤트는 EnrollmentEvent를 전달하도록 함
      */
     public void acceptEnrollment(Event event, Enrollment enrollment) {
-        event.accept(enrollment);
+        if (event.isConfirmative() && !enrollment.isAccepted() && reserveSeat(event)) { // 관리자 확인 모임이고, 정원이 남아 있으면 참가 신청 수락
+            enrollment.accept();
+        }
         eventPublisher.publishEvent(new EnrollmentAcceptedEvent(enrollment));
     }
 
     public void rejectEnrollment(Event event, Enrollment enrollment) {
-        event.reject(enrollment);
+        if (event.isConfirmative() && enrollment.isAccepted()) { // 관리자 확인 모임이고, 참가 신청 거절
+            enrollment.reject();
+            releaseSeat(event);
+        }
         eventPublisher.publishEvent(new EnrollmentRejectedEvent(enrollment));
     }
 
@@ -83,4 +112,41 @@ public class EventService {
     public void cancelCheckinEnrollment(Event event, Enrollment enrollment) {
         enrollment.absent();
     }
+
+    /**
+     * 선착순 모임이면 대기 중인 참가 신청을 신청 순서대로 좌석이 남아 있는 만큼 참가 확정
+     * 대기열은 남은 자리 수만큼만 조회하고, 다른 요청이 먼저 좌석을 가져가서 확보에 실패하면 중단
+     */
+    private void acceptWaitingList(Event event) {
+        if (!event.isFirstComeFirstServed()) {
+            return;
+        }
+        while (event.numberOfRemainSpots() > 0) {
+            List<Enrollment> waitingList = enrollmentRepository.findByEventAndAcceptedOrderByEnrolledAtAsc(event, false,
+                    PageRequest.of(0, event.numberOfRemainSpots()));
+            if (waitingList.isEmpty()) {
+                return;
+            }
+            for (Enrollment enrollment : waitingList) {
+                if (!reserveSeat(event)) {
+                    return;
+                }
+                enrollment.accept(); // 다음 조회 전에 flush되므로 다음 대기열 조회에서 제외됨
+            }
+        }
+    }
+
+    private boolean reserveSeat(Event event) {
+        if (eventRepository.increaseAcceptedCount(event.getId()) == 1) {
+            event.increaseAcceptedCount();
+            return true;
+        }
+        return false;
+    }
+
+    private void releaseSeat(Event event) {
+        if (eventRepository.decreaseAcceptedCount(event.getId()) == 1) {
+            event.decreaseAcceptedCount();
+        }
+    }
 }
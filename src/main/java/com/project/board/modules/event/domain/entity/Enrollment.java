@@ -6,10 +6,13 @@ import java.time.LocalDateTime;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
 import javax.persistence.NamedSubgraph;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,8 +25,11 @@ import lombok.ToString;
  * Enrollment는 Study와는 관계를 가질 필요가 없음
  * Account와는 단방향 연관관계
  * Event와는 양방향 연관관계
+ * 한 계정은 모임에 한 번만 참가 신청할 수 있음(event, account 유니크 제약)
  */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_enrollment_event_account", columnNames = {"event_id", "account_account_id"}),
+        indexes = @Index(name = "idx_enrollment_waiting", columnList = "event_id, accepted, enrolled_at")) // 모임별 대기열을 신청 순서대로 조회
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @ToString
@@ -13,19 +13,18 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 모임(Event) 엔티티 설계
  *
  * Event는 Study, Account를 참조할 수 있는 단방향 연관관계
  * Enrollment와는 양방향 연관관계
+ *
+ * acceptedCount는 참가가 확정된 인원 수(좌석 카운터)
+ * 동시에 여러 명이 참가 신청해도 정원을 넘지 않도록 EventRepository의 조건부 UPDATE로만 변경하고 엔티티 변경 감지로는 수정하지 않음
+ * 남은 자리, 참가 확정 인원은 acceptedCount로 계산하므로 모임 목록 화면에서는 참가 내역(enrollments)을 조회하지 않음
+ * 대기 중인 참가 신청은 EnrollmentRepository에서 신청 순서대로 필요한 만큼만 조회
  */
-@NamedEntityGraph(
-        name = "Event.withEnrollments",
-        attributeNodes = @NamedAttributeNode("enrollments")
-)
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -61,6 +60,9 @@ public class Event {
 
     private Integer limitOfEnrollments;
 
+    @Column(nullable = false, updatable = false)
+    private int acceptedCount;
+
     @OneToMany(mappedBy = "event") @ToString.Exclude // 모임과 참가는 서로 양방향 연관관계를 가지고 있으므로 mappedBy를 이용하여 관계를 정의
     @OrderBy("enrolledAt") // 참석 리스트가 조회될 때 참석 날짜 기준으로 정렬, ORDER BY절과 같음
     private List<Enrollment> enrollments = new ArrayList<>(); // Collection 필드 초기화
@@ -99,9 +101,8 @@ public class Event {
 
     // 모임 참석 완료 여부
     private boolean isAlreadyEnrolled(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
         for (Enrollment enrollment : this.enrollments) {
-            if (enrollment.getAccount().equals(account)) {
+            if (userAccount.isAccount(enrollment.getAccount())) {
                 return true;
             }
         }
@@ -109,9 +110,8 @@ public class Event {
     }
 
     public boolean isAttended(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
         for (Enrollment enrollment : this.enrollments) {
-            if (enrollment.getAccount().equals(account) && enrollment.isAttended()) {
+            if (userAccount.isAccount(enrollment.getAccount()) && enrollment.isAttended()) {
                 return true;
             }
         }
@@ -120,17 +120,21 @@ public class Event {
 
     // 모임 자리 여부 확인 메서드
     public int numberOfRemainSpots() {
-        int accepted = (int) this.enrollments.stream()
-                .filter(Enrollment::isAccepted)
-                .count();
-        return this.limitOfEnrollments - accepted;
+        return this.limitOfEnrollments - this.acceptedCount;
     }
 
     // 모임 참가 신청자 수 확인 메서드
     public Long getNumberOfAcceptedEnrollments() {
-        return this.enrollments.stream()
-                .filter(Enrollment::isAccepted)
-                .count();
+        return (long) this.acceptedCount;
+    }
+
+    // 조건부 UPDATE로 좌석을 확보하거나 반납한 뒤 같은 요청 안에서도 값이 맞도록 엔티티의 값만 변경(DB에는 반영되지 않음)
+    public void increaseAcceptedCount() {
+        this.acceptedCount++;
+    }
+
+    public void decreaseAcceptedCount() {
+        this.acceptedCount--;
     }
 
     public void updateFrom(EventForm eventForm) {
@@ -143,9 +147,12 @@ public class Event {
         this.endEnrollmentDateTime = eventForm.getEndEnrollmentDateTime();
     }
 
-    // 모임 유형이 선착순이고 모임 정원이 참가 요청 수보다 큰지 확인
-    public boolean isAbleToAcceptWaitingEnrollment() {
-        return this.eventType == EventType.FCFS && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments();
+    public boolean isFirstComeFirstServed() {
+        return this.eventType == EventType.FCFS;
+    }
+
+    public boolean isConfirmative() {
+        return this.eventType == EventType.CONFIRMATIVE;
     }
 
     // 모임에 참가 내역 추가
@@ -160,50 +167,12 @@ public class Event {
         enrollment.detachEvent();
     }
 
-    // 대기 중인 있는 참가 신청들이 수용 가능한지 확인하여 첫 번째 신청을 가져와 참가 신청 상태로 변경
-    public void acceptNextIfAvailable() {
-        if (this.isAbleToAcceptWaitingEnrollment()) {
-            this.firstWaitingEnrollment().ifPresent(Enrollment::accept);
-        }
-    }
-
-    // 참가 신청 중 신청 완료되지 않은 첫 번째 내역을 가져옴
-    private Optional<Enrollment> firstWaitingEnrollment() {
-        return this.enrollments.stream()
-                .filter(e -> !e.isAccepted())
-                .findFirst();
-    }
-
-    // 대기 중인 참가 신청 수용 가능 여부를 판단하여 참가 가능한 수만큼 대기 리스트의 상태를 참가 신청 완료 상태로 변경
-    public void acceptWaitingList() {
-        if (this.isAbleToAcceptWaitingEnrollment()) {
-            List<Enrollment> waitingList = this.enrollments.stream()
-                    .filter(e -> !e.isAccepted())
-                    .collect(Collectors.toList());
-            int numberToAccept = (int) Math.min(limitOfEnrollments - getNumberOfAcceptedEnrollments(), waitingList.size());
-            waitingList.subList(0, numberToAccept).forEach(Enrollment::accept);
-        }
-    }
-
-    // 관지자 확인 모임이고, 참가 신청 수락
-    public void accept(Enrollment enrollment) {
-        if (this.eventType == EventType.CONFIRMATIVE && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments()) {
-            enrollment.accept();
-        }
-    }
-
-    // 관리자 확인 모임이고, 참가 신청 거절
-    public void reject(Enrollment enrollment) {
-        if (this.eventType == EventType.CONFIRMATIVE) {
-            enrollment.reject();
-        }
-    }
 
     // 수락 가능 확인
     public boolean isAcceptable(Enrollment enrollment) {
         return this.eventType == EventType.CONFIRMATIVE
-                && this.enrollments.contains(enrollment)
-                && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments()
+                && isEnrollmentOf(enrollment)
+                && this.limitOfEnrollments > this.acceptedCount
                 && !enrollment.isAttended()
                 && !enrollment.isAccepted();
     }
@@ -211,8 +180,13 @@ public class Event {
     // 수락 거부 확인
     public boolean isRejectable(Enrollment enrollment) {
         return this.eventType == EventType.CONFIRMATIVE
-                && this.enrollments.contains(enrollment)
+                && isEnrollmentOf(enrollment)
                 && !enrollment.isAttended()
                 && enrollment.isAccepted();
     }
+
+    // 참가 내역 목록을 순회하지 않고 참가 내역이 참조하는 모임의 id로 확인
+    private boolean isEnrollmentOf(Enrollment enrollment) {
+        return enrollment.getEvent() != null && this.id.equals(enrollment.getEvent().getId());
+    }
 }
\ No newline at end of file
@@ -2,14 +2,15 @@ package com.project.board.modules.event.endpoint;
 
 import com.project.board.modules.account.domain.entity.Account;
 import com.project.board.modules.account.support.CurrentUser;
+import com.project.board.modules.event.application.AlreadyEnrolledException;
 import com.project.board.modules.event.application.EventService;
 import com.project.board.modules.event.domain.entity.Enrollment;
 import com.project.board.modules.event.domain.entity.Event;
 import com.project.board.modules.event.endpoint.form.EventForm;
 import com.project.board.modules.event.validator.EventValidator;
 import com.project.board.modules.study.application.StudyService;
+import com.project.board.modules.study.domain.StudyView;
 import com.project.board.modules.study.domain.entity.Study;
-import com.project.board.modules.study.infra.repository.StudyRepository;
 import com.project.board.modules.event.infra.repository.EnrollmentRepository;
 import com.project.board.modules.event.infra.repository.EventRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
@@ -32,7 +34,6 @@ public class EventController {
     private final StudyService studyService;
     private final EventService eventService;
     private final EventRepository eventRepository;
-    private final StudyRepository studyRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final EventValidator eventValidator;
 
@@ -45,9 +46,9 @@ public class EventController {
     // 모임 뷰 라우팅
     @GetMapping("/new-event")
     public String newEventForm(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         model.addAttribute(study);
-        model.addAttribute(account);
+        model.addAttribute("account", account);
         model.addAttribute(new EventForm());
         return "event/form";
     }
@@ -55,9 +56,9 @@ public class EventController {
     // 모임 생성
     @PostMapping("/new-event")
     public String createNewEvent(@CurrentUser Account account, @PathVariable String path, @Valid EventForm eventForm, Errors errors, Model model) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         if (errors.hasErrors()) {
-            model.addAttribute(account);
+            model.addAttribute("account", account);
             model.addAttribute(study);
             return "event/form";
         }
@@ -68,19 +69,19 @@ public class EventController {
     // 모임 조회 화면
     @GetMapping("/events/{id}")
     public String getEvent(@CurrentUser Account account, @PathVariable String path, @PathVariable("id") Event event, Model model) {
-        model.addAttribute(account);
+        model.addAttribute("account", account);
         model.addAttribute(event);
-        model.addAttribute(studyRepository.findStudyWithManagersByPath(path));
+        model.addAttribute("study", studyService.getStudyView(path)); // 관리자 여부 확인만 필요하므로 캐시된 StudyView 사용
         return "event/view";
     }
 
     // 모임 목록 조회 화면
     @GetMapping("/events")
     public String viewStudyEvents(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
-        model.addAttribute(account);
-        model.addAttribute(study);
-        List<Event> events = eventRepository.findByStudyOrderByStartDateTime(study);
+        StudyView study = studyService.getStudyView(path);
+        model.addAttribute("account", account);
+        model.addAttribute("study", study);
+        List<Event> events = eventRepository.findByStudyIdOrderByStartDateTime(study.getId());
         List<Event> newEvents = new ArrayList<>();
         List<Event> oldEvents = new ArrayList<>();
         for (Event event : events) {
@@ -99,7 +100,7 @@ public class EventController {
     @GetMapping("/events/{id}/edit")
     public String updateEventForm(@CurrentUser Account account, @PathVariable String path, @PathVariable("id") Event event, Model model) {
         model.addAttribute(studyService.getStudyToUpdate(account, path));
-        model.addAttribute(account);
+        model.addAttribute("account", account);
         model.addAttribute(event);
         model.addAttribute(EventForm.from(event));
         return "event/update-form";
@@ -117,7 +118,7 @@ public class EventController {
         eventForm.setEventType(event.getEventType());
         eventValidator.validateUpdateForm(eventForm, event, errors);
         if (errors.hasErrors()) {
-            model.addAttribute(account);
+            model.addAttribute("account", account);
             model.addAttribute(study);
             model.addAttribute(event);
             return "event/update-form";
@@ -129,7 +130,7 @@ public class EventController {
     // 모임 삭제
     @DeleteMapping("/events/{id}")
     public String deleteEvent(@CurrentUser Account account, @PathVariable String path, @PathVariable("id") Event event) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         eventService.deleteEvent(event);
         return "redirect:/study/" + study.getEncodedPath() + "/events";
     }
@@ -149,9 +150,14 @@ public class EventController {
      */
     // 선착순 - 모임 참가 신청
     @PostMapping("/events/{id}/enroll")
-    public String enroll(@CurrentUser Account account, @PathVariable String path, @PathVariable("id") Event event) {
+    public String enroll(@CurrentUser Account account, @PathVariable String path, @PathVariable("id") Event event,
+                         RedirectAttributes attributes) {
         Study study = studyService.getStudyToEnroll(path);
-        eventService.enroll(event, account);
+        try {
+            eventService.enroll(event, account);
+        } catch (AlreadyEnrolledException e) { // 이미 신청한 경우 에러 페이지 대신 모임 화면에서 안내
+            attributes.addFlashAttribute("message", e.getMessage());
+        }
         return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
     }
 
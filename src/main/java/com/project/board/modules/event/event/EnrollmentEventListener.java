@@ -1,40 +1,36 @@
 package com.project.board.modules.event.event;
 
-import com.project.board.infra.config.AppProperties;
 import com.project.board.infra.mail.EmailMessage;
 import com.project.board.infra.mail.EmailService;
+import com.project.board.infra.mail.LinkMailTemplate;
 import com.project.board.modules.account.domain.entity.Account;
 import com.project.board.modules.event.domain.entity.Enrollment;
 import com.project.board.modules.event.domain.entity.Event;
+import com.project.board.modules.notification.application.UnreadNotificationCounter;
 import com.project.board.modules.notification.domain.entity.Notification;
 import com.project.board.modules.notification.domain.entity.NotificationType;
 import com.project.board.modules.notification.infra.repository.NotificationRepository;
 import com.project.board.modules.study.domain.entity.Study;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import java.time.LocalDateTime;
 
 // 모임 관련 이벤트가 발생했을 때 이벤트를 처리해 줄 이벤트 리스너 구현
+// 이벤트는 outbox 테이블에 저장되고 OutboxRelay가 커밋된 메시지를 읽어서 호출
 @Slf4j
-@Async // 비동기 처리, 이 어노테이션을 사용하기 위해서는 @EnableAsync 어노테이션이 적용된 설정 클래스가 필요
 @Component
 @Transactional
 @RequiredArgsConstructor
 public class EnrollmentEventListener {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
     private final EmailService emailService;
-    private final AppProperties appProperties;
-    private final TemplateEngine templateEngine;
+    private final LinkMailTemplate linkMailTemplate;
 
-    @EventListener
     public void handleEnrollmentEvent(EnrollmentEvent enrollmentEvent) {
         Enrollment enrollment = enrollmentEvent.getEnrollment();
         Account account = enrollment.getAccount();
@@ -49,13 +45,8 @@ public class EnrollmentEventListener {
     }
 
     private void sendEmail(EnrollmentEvent enrollmentEvent, Account account, Event event, Study study) {
-        Context context = new Context();
-        context.setVariable("nickname", account.getNickname());
-        context.setVariable("link", "/study/" + study.getEncodedPath() + "/events/" + event.getId());
-        context.setVariable("linkName", study.getTitle());
-        context.setVariable("message", enrollmentEvent.getMessage());
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = linkMailTemplate.render(account.getNickname(),
+                "/study/" + study.getEncodedPath() + "/events/" + event.getId(), study.getTitle(), enrollmentEvent.getMessage());
         EmailMessage emailMessage = EmailMessage.builder()
                 .subject("[Study With Me] " + event.getTitle() + " 모임 참가 신청 결과입니다.")
                 .to(account.getEmail())
@@ -68,5 +59,6 @@ public class EnrollmentEventListener {
         notificationRepository.save(Notification.from(study.getTitle() + " / " + event.getTitle(),
                 "/study/" + study.getEncodedPath() + "/events/" + event.getId(), false,
                 LocalDateTime.now(), enrollmentEvent.getMessage(), account, NotificationType.EVENT_ENROLLMENT));
+        unreadNotificationCounter.increment(account.getId());
     }
 }
@@ -5,6 +5,7 @@ import com.project.board.modules.event.domain.entity.Enrollment;
 import com.project.board.modules.event.domain.entity.Event;
 
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,9 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
   Enrollment findByEventAndAccount(Event event, Account account);
 
+  // 모임의 대기열(accepted = false)을 신청 순서대로 필요한 만큼만 조회
+  List<Enrollment> findByEventAndAcceptedOrderByEnrolledAtAsc(Event event, boolean accepted, Pageable pageable);
+
   @EntityGraph("Enrollment.withEventAndStudy")
   List<Enrollment> findByAccountAndAcceptedOrderByEnrolledAtDesc(Account account, boolean accepted);
 }
\ No newline at end of file
@@ -1,15 +1,36 @@
 package com.project.board.modules.event.infra.repository;
 
 import com.project.board.modules.event.domain.entity.Event;
-import com.project.board.modules.study.domain.entity.Study;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Transactional(readOnly = true)
 public interface EventRepository extends JpaRepository<Event, Long> {
-    @EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.LOAD)
-    List<Event> findByStudyOrderByStartDateTime(Study study);
-}
\ No newline at end of file
+    // 모임 목록 화면은 acceptedCount로 남은 자리를 표시하므로 참가 내역은 조회하지 않음
+    List<Event> findByStudyIdOrderByStartDateTime(Long studyId);
+
+    /**
+     * 정원이 남아 있을 때만 참가 확정 인원을 1 늘림, 늘렸으면 1 반환
+     * 하나의 UPDATE 문으로 확인과 증가를 함께 처리하므로 동시에 신청해도 정원을 넘지 않음(모임 row에 쓰기 락이 걸려 순서대로 처리)
+     */
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + 1 where e.id = :id and e.acceptedCount < e.limitOfEnrollments")
+    int increaseAcceptedCount(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.acceptedCount = e.acceptedCount - 1 where e.id = :id and e.acceptedCount > 0")
+    int decreaseAcceptedCount(@Param("id") Long id);
+
+    // 참가 확정 인원을 참가 내역 기준으로 다시 계산
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.acceptedCount = (select count(en) from Enrollment en where en.event = e and en.accepted = true)")
+    int recountAcceptedCount();
+}
@@ -0,0 +1,91 @@
+package com.project.board.modules.image.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기존 @Lob 컬럼(study.image, account.image)에 저장된 base64 이미지를 이미지 저장소로 옮기는 작업
+ *
+ * 엔티티에서는 image 필드를 제거했으므로 JdbcTemplate으로 남아있는 컬럼을 직접 읽음
+ * BATCH_SIZE개씩 읽어 파일로 저장하고 image_hash를 채운 뒤 기존 컬럼은 null로 비움
+ * 기존 컬럼이 없는 새 DB에서는 아무 작업도 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.image", name = "migrate-on-startup", havingValue = "true", matchIfMissing = true)
+public class ImageMigrationJob {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageStore imageStore;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        migrate("study", "id");
+        migrate("account", "account_id");
+    }
+
+    /**
+     * id 순서로 BATCH_SIZE개씩 나눠서 조회(keyset), 한 번에 메모리에 올라오는 이미지는 BATCH_SIZE개로 제한
+     * 결과 전체를 한 번에 조회하면 MySQL 드라이버는 기본 설정에서 모든 row(이미지 LOB 포함)를 메모리에 읽어둠
+     * 변환하지 못한 row는 image_hash가 비어 있는 채로 남으므로 조건 대신 마지막 id 이후부터 조회
+     */
+    private void migrate(String table, String idColumn) {
+        String select = "select " + idColumn + ", image from " + table
+                + " where image is not null and image_hash is null and " + idColumn + " > ?"
+                + " order by " + idColumn + " limit " + BATCH_SIZE;
+        String update = "update " + table + " set image_hash = ?, image = null where " + idColumn + " = ?";
+        List<Object[]> batch = new ArrayList<>();
+        int migrated = 0;
+        long lastId = 0L;
+        try {
+            List<Map<String, Object>> rows;
+            do {
+                rows = jdbcTemplate.queryForList(select, lastId);
+                for (Map<String, Object> row : rows) {
+                    lastId = ((Number) row.get(idColumn)).longValue();
+                    Object image = row.get("image");
+                    if (image == null || !image.toString().startsWith("data:")) {
+                        continue;
+                    }
+                    try {
+                        batch.add(new Object[]{imageStore.storeDataUrl(image.toString()), lastId});
+                    } catch (IllegalArgumentException e) {
+                        log.warn("{} {} 이미지를 변환하지 못했습니다.", table, lastId);
+                    }
+                }
+                migrated += flush(update, batch);
+            } while (rows.size() == BATCH_SIZE);
+        } catch (DataAccessException e) {
+            log.debug("{} 이미지 이전을 건너뜁니다: {}", table, e.getMessage());
+            return;
+        }
+        if (migrated > 0) {
+            log.info("{} images migrated: {}", table, migrated);
+        }
+    }
+
+    private int flush(String update, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        jdbcTemplate.batchUpdate(update, batch);
+        batch.clear();
+        return size;
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.board.modules.image.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 해시(SHA-256)로 주소를 정하는 로컬 파일 이미지 저장소
+ *
+ * 스터디 배너, 프로필 이미지를 base64 문자열로 @Lob 컬럼에 저장하면 스터디나 계정을 조회할 때마다
+ * 이미지가 보이지 않는 화면에서도 수 MB의 데이터를 DB에서 읽어오게 되므로
+ * 이미지는 파일로 저장하고 엔티티에는 해시만 저장
+ *
+ * 같은 내용이면 같은 해시가 되므로 중복 저장되지 않고, 한 번 저장된 파일은 변경되지 않음
+ * 파일은 {root}/{해시 앞 2자리}/{해시} 경로에 저장
+ */
+@Component
+public class ImageStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern DATA_URL_PATTERN = Pattern.compile("^data:(image/[a-z+.-]+);base64,(.+)$", Pattern.DOTALL);
+    private static final Set<String> ALLOWED_TYPES = Set.of(
+            MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp");
+
+    private final Path root;
+
+    public ImageStore(@Value("${app.image.root:./data/images}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 화면에서 cropper로 잘라낸 이미지(data URL)를 저장하고 해시를 반환
+     */
+    public String storeDataUrl(String dataUrl) {
+        Matcher matcher = DATA_URL_PATTERN.matcher(dataUrl.trim());
+        if (!matcher.matches() || !ALLOWED_TYPES.contains(matcher.group(1))) {
+            throw new IllegalArgumentException("잘못된 이미지 형식입니다.");
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(matcher.group(2).getBytes(StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 이미지 형식입니다.", e);
+        }
+        return store(bytes);
+    }
+
+    public String store(byte[] bytes) {
+        String hash = sha256(bytes);
+        Path target = pathOf(hash);
+        if (Files.exists(target)) {
+            return hash;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            // 임시 파일에 쓴 뒤 이동시켜서 읽는 쪽에서 쓰다 만 파일을 보지 않도록 함
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            try {
+                Files.write(temp, bytes);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지를 저장하지 못했습니다.", e);
+        }
+        return hash;
+    }
+
+    public Optional<Path> find(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // 확장자 없이 저장하므로 파일 앞부분(magic number)으로 타입 판별
+    public MediaType contentTypeOf(Path path) {
+        byte[] head = new byte[12];
+        int read;
+        try (InputStream in = Files.newInputStream(path)) {
+            read = in.readNBytes(head, 0, head.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (read >= 8 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+            return MediaType.IMAGE_PNG;
+        }
+        if (read >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (read >= 6 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F') {
+            return MediaType.IMAGE_GIF;
+        }
+        if (read >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return MediaType.parseMediaType("image/webp");
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -4,10 +4,10 @@ import com.project.board.modules.account.domain.entity.Account;
 import com.project.board.modules.account.infra.repository.AccountRepository;
 import com.project.board.modules.account.support.CurrentUser;
 import com.project.board.modules.event.infra.repository.EnrollmentRepository;
-import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.study.application.search.StudySearchEngine;
+import com.project.board.modules.study.application.search.StudySearchResult;
 import com.project.board.modules.study.infra.repository.StudyRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -22,6 +22,7 @@ public class MainController {
   private final StudyRepository studyRepository;
   private final AccountRepository accountRepository;
   private final EnrollmentRepository enrollmentRepository;
+  private final StudySearchEngine studySearchEngine;
 
   /**
    * 스터디 검색 기능 => querydsl을 이용해 구현
@@ -91,8 +92,10 @@ public class MainController {
   @GetMapping("/search/study")
   public String searchStudy(String keyword, Model model,
       @PageableDefault(size = 9, sort = "publishedDateTime", direction = Sort.Direction.ASC) Pageable pageable) {
-    Page<Study> studyPage = studyRepository.findByKeyword(keyword, pageable); // 키워드 검색을 위해 호출
-    model.addAttribute("studyPage", studyPage);
+    StudySearchResult result = studySearchEngine.search(keyword, pageable); // 키워드 검색을 위해 호출
+    model.addAttribute("studyPage", result.getStudyPage());
+    model.addAttribute("tagFacets", result.getTagFacets());
+    model.addAttribute("zoneFacets", result.getZoneFacets());
     model.addAttribute("keyword", keyword);
     model.addAttribute("sortProperty", pageable.getSort().toString().contains("publishedDateTime")
         ? "publishedDateTime"
@@ -0,0 +1,136 @@
+package com.project.board.modules.notification.application;
+
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.domain.entity.QAccount;
+import com.project.board.modules.notification.domain.entity.Notification;
+import com.project.board.modules.notification.domain.entity.NotificationType;
+import com.project.board.modules.notification.infra.projection.NotificationRecipient;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 조건에 맞는 모든 계정에 알림을 저장하는 작업(fan-out)
+ *
+ * 대상 계정 전체를 엔티티로 읽어 하나씩 save하면 계정 수만큼 persistence context가 커지고 한 트랜잭션이 길어지므로
+ *  - 대상 계정은 id 순서로 chunkSize개씩 필요한 컬럼만 조회(keyset)
+ *  - chunk마다 별도 트랜잭션에서 알림을 persist하고 flush/clear, insert는 hibernate.jdbc.batch_size 단위로 묶여서 전송
+ *  - 메일은 chunk가 커밋된 뒤 트랜잭션 밖에서 발송
+ *  - chunk의 마지막 계정 id를 chunkSaved로 같은 트랜잭션 안에서 전달, 호출한 쪽이 저장해 두면 실패 후 재시도할 때
+ *    afterAccountId로 넘겨서 이미 커밋된 chunk의 알림과 메일을 다시 보내지 않음
+ * 알림 수신 여부는 알림 종류에 해당하는 계정의 알림 설정(웹/메일)으로 판단
+ */
+@Slf4j
+@Component
+public class NotificationFanOut {
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final int chunkSize;
+
+    public NotificationFanOut(EntityManager entityManager, TransactionTemplate transactionTemplate,
+                              UnreadNotificationCounter unreadNotificationCounter,
+                              @Value("${app.notification.fan-out-chunk-size:500}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.queryFactory = new JPAQueryFactory(entityManager);
+        this.transactionTemplate = transactionTemplate;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * recipients 조건에 맞는 계정 중 id가 afterAccountId보다 큰 계정에 알림을 저장하고, 메일 알림을 설정한 계정은 emailSender로 전달
+     * @return 저장한 알림 수
+     */
+    public long fanOut(Predicate recipients, NotificationType notificationType, String title, String link, String message,
+                       Consumer<NotificationRecipient> emailSender, long afterAccountId, LongConsumer chunkSaved) {
+        long saved = 0;
+        long lastAccountId = afterAccountId;
+        List<NotificationRecipient> chunk;
+        do {
+            long after = lastAccountId;
+            chunk = transactionTemplate.execute(status -> {
+                List<NotificationRecipient> found = findRecipients(recipients, notificationType, after);
+                saveNotifications(found, notificationType, title, link, message);
+                if (!found.isEmpty()) {
+                    chunkSaved.accept(found.get(found.size() - 1).getAccountId());
+                }
+                return found;
+            });
+            for (NotificationRecipient recipient : chunk) {
+                if (recipient.isByWeb()) {
+                    saved++;
+                }
+                if (recipient.isByEmail()) {
+                    emailSender.accept(recipient);
+                }
+                lastAccountId = recipient.getAccountId();
+            }
+        } while (chunk.size() == chunkSize);
+        log.info("{} notifications fanned out: {}", notificationType, saved);
+        return saved;
+    }
+
+    private List<NotificationRecipient> findRecipients(Predicate recipients, NotificationType notificationType, long after) {
+        QAccount account = QAccount.account;
+        return queryFactory
+                .select(Projections.constructor(NotificationRecipient.class,
+                        account.id, account.email, account.nickname,
+                        byEmail(account, notificationType), byWeb(account, notificationType)))
+                .from(account)
+                .where(recipients, account.id.gt(after))
+                .orderBy(account.id.asc())
+                .limit(chunkSize)
+                .fetch();
+    }
+
+    private void saveNotifications(List<NotificationRecipient> recipients, NotificationType notificationType,
+                                   String title, String link, String message) {
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationRecipient recipient : recipients) {
+            if (!recipient.isByWeb()) {
+                continue;
+            }
+            Account account = entityManager.getReference(Account.class, recipient.getAccountId()); // 계정은 조회하지 않고 외래키로만 사용
+            entityManager.persist(Notification.from(title, link, false, now, message, account, notificationType));
+            unreadNotificationCounter.increment(recipient.getAccountId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static BooleanPath byEmail(QAccount account, NotificationType notificationType) {
+        switch (notificationType) {
+            case STUDY_CREATED:
+                return account.notificationSetting.studyCreatedByEmail;
+            case STUDY_UPDATED:
+                return account.notificationSetting.studyUpdatedByEmail;
+            default:
+                return account.notificationSetting.studyRegistrationResultByEmail;
+        }
+    }
+
+    private static BooleanPath byWeb(QAccount account, NotificationType notificationType) {
+        switch (notificationType) {
+            case STUDY_CREATED:
+                return account.notificationSetting.studyCreatedByWeb;
+            case STUDY_UPDATED:
+                return account.notificationSetting.studyUpdatedByWeb;
+            default:
+                return account.notificationSetting.studyRegistrationResultByWeb;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.board.modules.notification.application;
 
+import com.project.board.modules.account.domain.entity.Account;
 import com.project.board.modules.notification.domain.entity.Notification;
+import com.project.board.modules.notification.infra.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,8 +14,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
     // 읽지 않은 알림 확인하면 읽은 상태로 변경
-    public void markAsRead(List<Notification> notifications) {
+    public void markAsRead(Account account, List<Notification> notifications) {
         notifications.forEach(Notification::read);
+        unreadNotificationCounter.reset(account.getId());
+    }
+
+    // 읽은 알림 삭제
+    public void deleteNotifications(Account account) {
+        notificationRepository.deleteByAccountAndChecked(account, true);
+        unreadNotificationCounter.reset(account.getId());
     }
 }
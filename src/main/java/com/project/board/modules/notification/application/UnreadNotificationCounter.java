@@ -0,0 +1,70 @@
+package com.project.board.modules.notification.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.board.infra.transaction.AfterCommit;
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.notification.infra.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계정별 읽지 않은 알림 수 캐시
+ *
+ * NotificationInterceptor가 페이지를 볼 때마다 읽지 않은 알림 수를 DB에서 세지 않도록
+ * 처음 조회할 때만 DB에서 세고(cold entry), 이후에는 알림 저장 시 증가시키고 알림 확인/삭제 시 캐시를 비움
+ *
+ * 증가와 삭제는 트랜잭션 커밋 이후에 반영해서 커밋 전 DB 값을 읽어 캐시한 경우에도 값이 어긋나지 않도록 함
+ * 다른 서버에서 저장된 알림을 놓치더라도 expireAfterWrite로 일정 시간 뒤에는 DB 값으로 다시 맞춰짐
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, AtomicLong> unreadCounts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    private final Counter cachedLookups;
+    private final Counter loadedLookups;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository, MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.cachedLookups = Counter.builder("notification.unread.lookup")
+                .tag("result", "cached")
+                .description("DB 조회 없이 캐시로 응답한 읽지 않은 알림 수 조회")
+                .register(meterRegistry);
+        this.loadedLookups = Counter.builder("notification.unread.lookup")
+                .tag("result", "loaded")
+                .description("캐시에 없어 DB에서 센 읽지 않은 알림 수 조회")
+                .register(meterRegistry);
+    }
+
+    public long unreadCount(Account account) {
+        AtomicLong count = unreadCounts.getIfPresent(account.getId());
+        if (count != null) {
+            cachedLookups.increment();
+            return count.get();
+        }
+        return unreadCounts.get(account.getId(), id -> {
+            loadedLookups.increment();
+            return new AtomicLong(notificationRepository.countByAccountAndChecked(account, false));
+        }).get();
+    }
+
+    // 캐시에 없는 계정은 다음 조회 때 DB에서 세므로 증가시키지 않음
+    public void increment(Long accountId) {
+        AfterCommit.execute(() -> unreadCounts.asMap().computeIfPresent(accountId, (id, count) -> {
+            count.incrementAndGet();
+            return count;
+        }));
+    }
+
+    public void reset(Long accountId) {
+        AfterCommit.execute(() -> unreadCounts.invalidate(accountId));
+    }
+}
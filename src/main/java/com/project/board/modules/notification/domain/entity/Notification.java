@@ -26,7 +26,10 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
-    @Id @GeneratedValue
+    // 알림은 한 번에 많이 저장되므로 JDBC batch insert가 가능하도록 시퀀스에서 id를 50개씩 미리 할당(pooled)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq_generator")
+    @SequenceGenerator(name = "notification_seq_generator", sequenceName = "notification_seq", allocationSize = 50)
     private Long id;
 
     private String title;
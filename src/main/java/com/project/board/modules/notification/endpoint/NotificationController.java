@@ -32,7 +32,7 @@ public class NotificationController {
         long numberOfChecked = notificationRepository.countByAccountAndChecked(account, true);
         putCategorizedNotifications(model, notifications, numberOfChecked, notifications.size());
         model.addAttribute("isNew", true);
-        notificationService.markAsRead(notifications);
+        notificationService.markAsRead(account, notifications);
         return "notification/list";
     }
 
@@ -49,7 +49,7 @@ public class NotificationController {
     // 알림 삭제
     @DeleteMapping("/notifications")
     public String deleteNotifications(@CurrentUser Account account) {
-        notificationRepository.deleteByAccountAndChecked(account, true);
+        notificationService.deleteNotifications(account);
         return "redirect:/notifications";
     }
 
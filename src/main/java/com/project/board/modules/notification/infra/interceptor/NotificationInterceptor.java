@@ -1,6 +1,7 @@
 package com.project.board.modules.notification.infra.interceptor;
 
-import com.project.board.modules.notification.infra.repository.NotificationRepository;
+import com.project.board.modules.account.application.AccountLoader;
+import com.project.board.modules.notification.application.UnreadNotificationCounter;
 import com.project.board.modules.account.domain.UserAccount;
 import com.project.board.modules.account.domain.entity.Account;
 import lombok.RequiredArgsConstructor;
@@ -25,14 +26,15 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class NotificationInterceptor implements HandlerInterceptor {
 
-    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final AccountLoader accountLoader;
 
     @Override
     public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (modelAndView != null && !isRedirectView(modelAndView) && authentication != null && isTypeOfUserAccount(authentication)) { // 리다이렉트가 아니고 인증 정보가 존재하고 UserAccount 타입일 경우
-            Account account = ((UserAccount) authentication.getPrincipal()).getAccount(); // Account 정보 추출
-            long count = notificationRepository.countByAccountAndChecked(account, false); // 알림 정보를 조회
+            Account account = accountLoader.getReference((UserAccount) authentication.getPrincipal()); // id만 사용하므로 조회 쿼리 없음
+            long count = unreadNotificationCounter.unreadCount(account); // 캐시된 읽지 않은 알림 수, 캐시에 없을 때만 DB 조회
             modelAndView.addObject("hasNotification", count > 0); // 모델로 전달
         }
     }
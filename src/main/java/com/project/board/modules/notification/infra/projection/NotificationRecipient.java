@@ -0,0 +1,19 @@
+package com.project.board.modules.notification.infra.projection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 대상 계정, 알림 저장과 메일 발송에 필요한 컬럼만 조회
+ * byEmail, byWeb은 알림 종류에 해당하는 계정의 알림 설정 값
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationRecipient {
+
+    private final Long accountId;
+    private final String email;
+    private final String nickname;
+    private final boolean byEmail;
+    private final boolean byWeb;
+}
@@ -0,0 +1,64 @@
+package com.project.board.modules.notification.infra.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 알림 id 시퀀스(notification_seq) 초기값 맞추기
+ *
+ * 알림 id는 원래 모든 엔티티가 같이 쓰는 hibernate_sequence에서 받았으므로, 기존 DB에 notification_seq를 새로 만들면
+ * 1부터 시작해서 이미 있는 알림 id와 겹침
+ * 시작할 때 시퀀스 값이 max(id) + allocationSize보다 작으면 올려줌(값을 줄이지는 않으므로 여러 서버가 동시에 실행해도 안전)
+ *  - MySQL : 시퀀스가 없으므로 Hibernate가 notification_seq 테이블(next_val 컬럼)로 대신 사용
+ *  - H2 : 시퀀스
+ * 스키마는 EntityManagerFactory가 만들어진 뒤에 있으므로 EntityManagerFactory를 주입받아 그 이후에 실행
+ */
+@Slf4j
+@Component
+public class NotificationSequenceInitializer {
+
+    static final String SEQUENCE_NAME = "notification_seq";
+    static final int ALLOCATION_SIZE = 50; // Notification @SequenceGenerator allocationSize와 같은 값
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    public NotificationSequenceInitializer(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                           EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void seed() throws MetaDataAccessException {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from notification", Long.class);
+        if (maxId == null) {
+            return;
+        }
+        long nextValue = maxId + ALLOCATION_SIZE + 1;
+        String database = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        if (database.startsWith("MySQL") || database.startsWith("MariaDB")) {
+            if (jdbcTemplate.update("update " + SEQUENCE_NAME + " set next_val = ? where next_val < ?", nextValue, nextValue) > 0) {
+                log.info("{} raised to {}", SEQUENCE_NAME, nextValue);
+            }
+        } else if (database.startsWith("H2")) {
+            Long current = jdbcTemplate.queryForObject(
+                    "select current_value from information_schema.sequences where sequence_name = ?",
+                    Long.class, SEQUENCE_NAME.toUpperCase());
+            if (current != null && current < nextValue) {
+                jdbcTemplate.execute("alter sequence " + SEQUENCE_NAME + " restart with " + nextValue);
+                log.info("{} restarted with {}", SEQUENCE_NAME, nextValue);
+            }
+        } else {
+            log.warn("{} is not seeded on {}, make sure it starts after {}", SEQUENCE_NAME, database, maxId);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.board.modules.outbox.application;
+
+import com.project.board.modules.event.domain.entity.Enrollment;
+import com.project.board.modules.event.event.EnrollmentAcceptedEvent;
+import com.project.board.modules.event.event.EnrollmentEvent;
+import com.project.board.modules.outbox.domain.entity.OutboxEventType;
+import com.project.board.modules.outbox.domain.entity.OutboxMessage;
+import com.project.board.modules.outbox.infra.repository.OutboxMessageRepository;
+import com.project.board.modules.study.event.StudyCreatedEvent;
+import com.project.board.modules.study.event.StudyUpdateEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ApplicationEventPublisher로 발생한 스터디, 모임 참가 이벤트를 outbox 테이블에 저장
+ *
+ * 동기 리스너이므로 이벤트를 발생시킨 서비스의 트랜잭션 안에서 저장되고, 서비스가 롤백되면 함께 롤백됨
+ * 실제 알림 처리는 OutboxRelay가 커밋된 메시지를 읽어서 수행
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxRecorder {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+
+    @EventListener
+    public void record(StudyCreatedEvent studyCreatedEvent) {
+        outboxMessageRepository.save(OutboxMessage.of(OutboxEventType.STUDY_CREATED,
+                studyCreatedEvent.getStudy().getId(), null, null));
+    }
+
+    @EventListener
+    public void record(StudyUpdateEvent studyUpdateEvent) {
+        outboxMessageRepository.save(OutboxMessage.of(OutboxEventType.STUDY_UPDATED,
+                studyUpdateEvent.getStudy().getId(), null, studyUpdateEvent.getMessage()));
+    }
+
+    @EventListener
+    public void record(EnrollmentEvent enrollmentEvent) {
+        Enrollment enrollment = enrollmentEvent.getEnrollment();
+        OutboxEventType eventType = enrollmentEvent instanceof EnrollmentAcceptedEvent
+                ? OutboxEventType.ENROLLMENT_ACCEPTED
+                : OutboxEventType.ENROLLMENT_REJECTED;
+        outboxMessageRepository.save(OutboxMessage.of(eventType,
+                enrollment.getEvent().getStudy().getId(), enrollment.getId(), enrollmentEvent.getMessage()));
+    }
+}
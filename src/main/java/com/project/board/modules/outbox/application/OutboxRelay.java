@@ -0,0 +1,287 @@
+package com.project.board.modules.outbox.application;
+
+import com.project.board.modules.event.event.EnrollmentAcceptedEvent;
+import com.project.board.modules.event.event.EnrollmentEventListener;
+import com.project.board.modules.event.event.EnrollmentRejectedEvent;
+import com.project.board.modules.event.infra.repository.EnrollmentRepository;
+import com.project.board.modules.outbox.domain.entity.OutboxMessage;
+import com.project.board.modules.outbox.domain.entity.OutboxStatus;
+import com.project.board.modules.outbox.infra.repository.OutboxMessageRepository;
+import com.project.board.modules.study.event.StudyCreatedEvent;
+import com.project.board.modules.study.event.StudyEventListener;
+import com.project.board.modules.study.event.StudyUpdateEvent;
+import com.project.board.modules.study.infra.repository.StudyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 테이블에 저장된 이벤트를 주기적으로 읽어 알림 리스너(StudyEventListener, EnrollmentEventListener)에 전달
+ *
+ * - 배치 : 지금 처리할 수 있는 PENDING 메시지(재시도 시각이 지났고 점유되지 않은 메시지)를 id 순서로 batchSize개씩 읽고,
+ *          배치가 가득 차 있으면 이어서 다음 배치를 처리
+ * - 점유(lease) : 읽은 메시지는 조건부 UPDATE로 lockedBy(이 서버의 배치마다 새로 만든 token), lockedUntil(leaseSeconds 뒤)을 기록해서 점유
+ *   점유에 성공한 메시지만 처리하므로 여러 서버에서 relay가 실행되어도 같은 메시지를 동시에 처리하지 않음
+ *   서버가 처리 중에 종료되면 lockedUntil이 지난 뒤 다른 서버가 다시 가져감
+ *   메시지 처리를 시작할 때와 fan-out chunk를 저장할 때마다 점유 시간을 연장하고,
+ *   처리 결과 저장과 점유 해제는 lockedBy가 token과 같을 때만 반영(조건부 UPDATE)하므로 다른 서버가 가져간 메시지를 덮어쓰지 않음
+ * - 순서 : 같은 스터디의 메시지는 id 순서대로 처리, 앞선 메시지가 재시도를 기다리거나 다른 서버가 처리 중이면 같은 스터디의 뒤 메시지는 처리하지 않음
+ *   조회 쿼리에서 제외하고, 조회와 점유 사이에 다른 서버가 앞선 메시지를 가져간 경우는 처리 전에 한 번 더 확인
+ * - 병렬 처리 : 배치를 스터디별로 나눠서 알림 전용 스레드 풀(notificationExecutor)에서 처리, 배치의 처리가 모두 끝나면 다음 배치를 읽음
+ *   스레드 풀이 가득 차면 app.async.notification.rejection-policy에 따라 처리, SPILL이면 메시지를 PENDING으로 남겨두고 다음 주기에 처리
+ * - 재시도 : 실패하면 지수 백오프(backoff * 2^시도 횟수, 최대 maxBackoff)로 재시도, maxAttempts번 실패하면 FAILED
+ * - 배압(backpressure) : 이벤트를 발생시키는 쪽은 테이블에 저장만 하고, relay는 처리할 수 있는 만큼만 가져가서 처리
+ *   AsyncConfig의 큐가 가득 차거나 서버가 재시작되어도 이벤트가 유실되지 않음
+ *
+ * 리스너 처리 후 상태를 저장하기 전에 서버가 종료되면 같은 메시지가 다시 처리될 수 있음(at-least-once)
+ *
+ * 메트릭
+ *  - outbox.pending : 처리 대기 중인 메시지 수
+ *  - outbox.lag : 가장 오래된 대기 메시지가 저장된 후 지난 시간(초)
+ *  - outbox.messages{result=published|retried|failed} : 처리 결과별 메시지 수(처리량)
+ *  - outbox.dispatch : 메시지 하나를 리스너에서 처리하는 데 걸린 시간
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final StudyRepository studyRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudyEventListener studyEventListener;
+    private final EnrollmentEventListener enrollmentEventListener;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor notificationExecutor;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final String relayId = UUID.randomUUID().toString();
+    private final AtomicLong claims = new AtomicLong();
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter publishedMessages;
+    private final Counter retriedMessages;
+    private final Counter failedMessages;
+    private final Timer dispatchTimer;
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository, StudyRepository studyRepository,
+                       EnrollmentRepository enrollmentRepository, StudyEventListener studyEventListener,
+                       EnrollmentEventListener enrollmentEventListener, TransactionTemplate transactionTemplate,
+                       @Qualifier("notificationExecutor") AsyncTaskExecutor notificationExecutor, MeterRegistry meterRegistry,
+                       @Value("${app.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${app.outbox.backoff-ms:1000}") long backoffMillis,
+                       @Value("${app.outbox.max-backoff-ms:600000}") long maxBackoffMillis,
+                       @Value("${app.outbox.lease-seconds:300}") long leaseSeconds) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.studyRepository = studyRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.studyEventListener = studyEventListener;
+        this.enrollmentEventListener = enrollmentEventListener;
+        this.transactionTemplate = transactionTemplate;
+        this.notificationExecutor = notificationExecutor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = Duration.ofMillis(backoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("처리 대기 중인 outbox 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 대기 메시지가 저장된 후 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.publishedMessages = resultCounter(meterRegistry, "published");
+        this.retriedMessages = resultCounter(meterRegistry, "retried");
+        this.failedMessages = resultCounter(meterRegistry, "failed");
+        this.dispatchTimer = Timer.builder("outbox.dispatch")
+                .description("outbox 메시지 처리 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        List<Long> dueIds;
+        int processed;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            dueIds = outboxMessageRepository.findDueIds(OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+            if (dueIds.isEmpty()) {
+                break;
+            }
+            String token = relayId + ":" + claims.incrementAndGet();
+            outboxMessageRepository.claim(dueIds, OutboxStatus.PENDING, token, now, now.plus(lease));
+            processed = process(outboxMessageRepository.findByLockedByAndStatusOrderByIdAsc(token, OutboxStatus.PENDING), token);
+        } while (dueIds.size() == batchSize && processed > 0);
+        updateLag();
+    }
+
+    // 처리를 시도한 메시지 수 반환
+    private int process(List<OutboxMessage> batch, String token) {
+        Map<Long, List<OutboxMessage>> byStudy = batch.stream()
+                .collect(Collectors.groupingBy(OutboxMessage::getStudyId, LinkedHashMap::new, Collectors.toList()));
+        List<Future<Integer>> results = new ArrayList<>();
+        for (List<OutboxMessage> messages : byStudy.values()) {
+            try {
+                results.add(notificationExecutor.submit(() -> processStudy(messages, token)));
+            } catch (TaskRejectedException e) {
+                log.debug("notification executor is busy, {} outbox messages wait for the next poll", messages.size());
+                release(messages, token);
+            }
+        }
+        int processed = 0;
+        for (Future<Integer> result : results) {
+            try {
+                processed += result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.error("failed to process outbox messages", e.getCause());
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 한 스터디의 메시지를 순서대로 처리, 실패하거나 점유를 잃으면 중단하고 남은 메시지는 점유 해제
+     * 처리 결과는 token으로 점유하고 있을 때만 저장, 점유 시간이 지나 다른 서버가 가져간 메시지는 그 서버의 결과를 유지
+     */
+    private int processStudy(List<OutboxMessage> messages, String token) {
+        OutboxMessage first = messages.get(0);
+        if (outboxMessageRepository.existsEarlierPending(first.getStudyId(), OutboxStatus.PENDING, first.getId(), token)) {
+            release(messages, token);
+            return 0;
+        }
+        int processed = 0;
+        for (OutboxMessage message : messages) {
+            LocalDateTime now = LocalDateTime.now();
+            if (outboxMessageRepository.renewLease(message.getId(), token, now, now.plus(lease)) == 0) {
+                log.warn("lease on outbox message {} expired before processing", message.getId());
+                break;
+            }
+            processed++;
+            RuntimeException failure = null;
+            try {
+                dispatchTimer.record(() -> transactionTemplate.executeWithoutResult(status -> dispatch(message, token)));
+                message.published(LocalDateTime.now());
+            } catch (RuntimeException e) {
+                failure = e;
+                message.failed(e.toString(), now.plus(backoffOf(message.getAttempts())), maxAttempts);
+            }
+            if (outboxMessageRepository.complete(message, token) == 0) {
+                log.warn("lease on outbox message {} expired, the result is left to the relay that took it over", message.getId(), failure);
+                break;
+            }
+            if (message.getStatus() == OutboxStatus.PUBLISHED) {
+                publishedMessages.increment();
+                continue;
+            }
+            if (message.getStatus() == OutboxStatus.FAILED) {
+                failedMessages.increment();
+                log.error("outbox message {} failed after {} attempts", message.getId(), message.getAttempts(), failure);
+            } else {
+                retriedMessages.increment();
+                log.warn("outbox message {} will be retried at {}", message.getId(), message.getNextAttemptAt(), failure);
+            }
+            break;
+        }
+        release(messages.subList(processed, messages.size()), token);
+        return processed;
+    }
+
+    private void release(List<OutboxMessage> messages, String token) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        outboxMessageRepository.release(messages.stream().map(OutboxMessage::getId).collect(Collectors.toList()), token);
+    }
+
+    private void dispatch(OutboxMessage message, String token) {
+        switch (message.getEventType()) {
+            case STUDY_CREATED:
+                if (studyRepository.existsById(message.getStudyId())) {
+                    studyEventListener.handleStudyCreatedEvent(new StudyCreatedEvent(studyRepository.getById(message.getStudyId())),
+                            message.getLastAccountIdOrZero(), lastAccountId -> checkpoint(message, lastAccountId, token));
+                }
+                break;
+            case STUDY_UPDATED:
+                if (studyRepository.existsById(message.getStudyId())) {
+                    studyEventListener.handleStudyUpdateEvent(new StudyUpdateEvent(studyRepository.getById(message.getStudyId()), message.getMessage()));
+                }
+                break;
+            case ENROLLMENT_ACCEPTED:
+                enrollmentRepository.findById(message.getPayloadId())
+                        .ifPresent(enrollment -> enrollmentEventListener.handleEnrollmentEvent(new EnrollmentAcceptedEvent(enrollment)));
+                break;
+            case ENROLLMENT_REJECTED:
+                enrollmentRepository.findById(message.getPayloadId())
+                        .ifPresent(enrollment -> enrollmentEventListener.handleEnrollmentEvent(new EnrollmentRejectedEvent(enrollment)));
+                break;
+        }
+    }
+
+    /**
+     * fan-out chunk 트랜잭션 안에서 호출, 진행 위치를 chunk와 함께 저장하고 점유 시간을 연장
+     * 점유를 잃었으면 chunk를 롤백하고 중단해서 메시지를 가져간 다른 서버와 같은 계정에 알림을 중복으로 저장하지 않음
+     */
+    private void checkpoint(OutboxMessage message, long lastAccountId, String token) {
+        if (outboxMessageRepository.saveCheckpoint(message.getId(), lastAccountId, token, LocalDateTime.now().plus(lease)) == 0) {
+            throw new IllegalStateException("outbox 메시지 " + message.getId() + "의 점유 시간이 지났습니다.");
+        }
+    }
+
+    // 처리가 끝난 메시지는 하루 뒤 삭제
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval-ms:3600000}")
+    public void cleanUp() {
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+        outboxMessageRepository.deleteProcessedBefore(OutboxStatus.PUBLISHED, before);
+    }
+
+    private Duration backoffOf(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void updateLag() {
+        pending.set(outboxMessageRepository.countByStatus(OutboxStatus.PENDING));
+        lagSeconds.set(outboxMessageRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING)
+                .map(message -> Duration.between(message.getCreatedAt(), LocalDateTime.now()).getSeconds())
+                .orElse(0L));
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("outbox.messages")
+                .tag("result", result)
+                .description("처리 결과별 outbox 메시지 수")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.board.modules.outbox.domain.entity;
+
+// outbox에 저장되는 이벤트 종류
+public enum OutboxEventType {
+
+    STUDY_CREATED, STUDY_UPDATED, ENROLLMENT_ACCEPTED, ENROLLMENT_REJECTED
+}
@@ -0,0 +1,105 @@
+package com.project.board.modules.outbox.domain.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 outbox
+ *
+ * 스터디, 모임 참가 이벤트를 비즈니스 데이터와 같은 트랜잭션에서 테이블에 저장해 두고
+ * OutboxRelay가 커밋된 이벤트만 읽어서 리스너에 전달
+ * 엔티티 대신 id만 저장하고 처리 시점에 다시 조회
+ *
+ * studyId : 같은 스터디의 이벤트는 저장된 순서(id)대로 처리
+ * payloadId : 모임 참가 이벤트의 참가(Enrollment) id
+ * lockedBy, lockedUntil : 메시지를 가져간 서버(relay)와 점유 만료 시각, 여러 서버가 같은 메시지를 동시에 처리하지 않도록 사용
+ * lastAccountId : 스터디 생성 알림(fan-out)에서 커밋까지 끝난 마지막 계정 id, 재시도하면 이 다음 계정부터 처리
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_outbox_message_status", columnList = "status, outbox_message_id"),
+        @Index(name = "idx_outbox_message_study", columnList = "study_id, status, outbox_message_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxMessage {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_message_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    private Long studyId;
+
+    private Long payloadId;
+
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime processedAt;
+
+    private String lastError;
+
+    @Column(length = 100)
+    private String lockedBy;
+
+    private LocalDateTime lockedUntil;
+
+    private Long lastAccountId;
+
+    public static OutboxMessage of(OutboxEventType eventType, Long studyId, Long payloadId, String message) {
+        OutboxMessage outboxMessage = new OutboxMessage();
+        outboxMessage.eventType = eventType;
+        outboxMessage.studyId = studyId;
+        outboxMessage.payloadId = payloadId;
+        outboxMessage.message = message;
+        outboxMessage.status = OutboxStatus.PENDING;
+        outboxMessage.createdAt = LocalDateTime.now();
+        outboxMessage.nextAttemptAt = outboxMessage.createdAt;
+        return outboxMessage;
+    }
+
+    public long getLastAccountIdOrZero() {
+        return lastAccountId == null ? 0L : lastAccountId;
+    }
+
+    public void published(LocalDateTime now) {
+        this.status = OutboxStatus.PUBLISHED;
+        this.processedAt = now;
+        release();
+    }
+
+    // 처리 결과는 OutboxMessageRepository.complete로 점유 해제와 함께 저장
+    private void release() {
+        this.lockedBy = null;
+        this.lockedUntil = null;
+    }
+
+    // 처리 실패, 최대 재시도 횟수를 넘기면 FAILED로 변경하고 그렇지 않으면 nextAttemptAt 이후에 재시도
+    public void failed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        this.nextAttemptAt = nextAttemptAt;
+        release();
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+        }
+    }
+}
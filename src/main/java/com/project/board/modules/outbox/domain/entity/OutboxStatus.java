@@ -0,0 +1,11 @@
+package com.project.board.modules.outbox.domain.entity;
+
+/**
+ * PENDING : 처리 대기 중(재시도 대기 포함)
+ * PUBLISHED : 리스너 처리 완료
+ * FAILED : 최대 재시도 횟수를 넘겨 더 이상 처리하지 않음
+ */
+public enum OutboxStatus {
+
+    PENDING, PUBLISHED, FAILED
+}
@@ -0,0 +1,98 @@
+package com.project.board.modules.outbox.infra.repository;
+
+import com.project.board.modules.outbox.domain.entity.OutboxMessage;
+import com.project.board.modules.outbox.domain.entity.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * 지금 처리할 수 있는 메시지의 id를 순서대로 조회
+     *  - 재시도 시각(nextAttemptAt)이 지났고 다른 서버가 점유하지 않은 메시지
+     *  - 같은 스터디의 앞선 메시지가 재시도를 기다리거나 다른 서버가 처리 중이면 뒤 메시지는 제외(스터디별 순서 유지)
+     * 재시도를 기다리는 메시지는 처음부터 제외되므로 오래된 메시지가 배치를 모두 차지해서 다른 스터디의 메시지가 밀리지 않음
+     */
+    @Query("select m.id from OutboxMessage m where m.status = :status and m.nextAttemptAt <= :now"
+            + " and (m.lockedUntil is null or m.lockedUntil <= :now)"
+            + " and not exists (select p.id from OutboxMessage p where p.studyId = m.studyId and p.status = :status"
+            + " and p.id < m.id and (p.nextAttemptAt > :now or p.lockedUntil > :now))"
+            + " order by m.id")
+    List<Long> findDueIds(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 조회한 메시지 중 아직 아무도 점유하지 않은 메시지만 token으로 점유(조건부 UPDATE)
+     * 여러 서버가 같은 id를 조회해도 UPDATE는 한 서버에서만 성공하므로, 점유한 메시지는 findByLockedByAndStatusOrderByIdAsc로 다시 조회
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxMessage m set m.lockedBy = :token, m.lockedUntil = :until"
+            + " where m.id in :ids and m.status = :status and (m.lockedUntil is null or m.lockedUntil <= :now)")
+    int claim(@Param("ids") List<Long> ids, @Param("status") OutboxStatus status, @Param("token") String token,
+              @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    List<OutboxMessage> findByLockedByAndStatusOrderByIdAsc(String lockedBy, OutboxStatus status);
+
+    // 메시지 처리를 시작하기 전에 점유 시간을 연장, 점유 시간이 이미 지났거나 다른 서버가 가져갔으면 0
+    @Transactional
+    @Modifying
+    @Query("update OutboxMessage m set m.lockedUntil = :until"
+            + " where m.id = :id and m.lockedBy = :token and m.lockedUntil > :now")
+    int renewLease(@Param("id") Long id, @Param("token") String token,
+                   @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * 처리 결과(상태, 재시도 정보)를 저장하고 점유 해제, token으로 점유하고 있을 때만 반영
+     * 엔티티를 save(merge)하면 점유 시간이 지나 다른 서버가 가져간 메시지의 상태와 점유 정보를 덮어쓰므로 조건부 UPDATE 사용
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxMessage m set m.status = :#{#message.status}, m.attempts = :#{#message.attempts},"
+            + " m.lastError = :#{#message.lastError}, m.nextAttemptAt = :#{#message.nextAttemptAt},"
+            + " m.processedAt = :#{#message.processedAt}, m.lockedBy = null, m.lockedUntil = null"
+            + " where m.id = :#{#message.id} and m.lockedBy = :token")
+    int complete(@Param("message") OutboxMessage message, @Param("token") String token);
+
+    // 처리하지 않은 메시지의 점유 해제, 다음 주기에 다시 가져감
+    @Transactional
+    @Modifying
+    @Query("update OutboxMessage m set m.lockedBy = null, m.lockedUntil = null where m.id in :ids and m.lockedBy = :token")
+    int release(@Param("ids") List<Long> ids, @Param("token") String token);
+
+    // 같은 스터디에 token으로 점유하지 않은 앞선 대기 메시지가 있는지 확인, 있으면 순서를 지키기 위해 처리하지 않음
+    @Query("select case when count(m) > 0 then true else false end from OutboxMessage m"
+            + " where m.studyId = :studyId and m.status = :status and m.id < :id"
+            + " and (m.lockedBy is null or m.lockedBy <> :token)")
+    boolean existsEarlierPending(@Param("studyId") Long studyId, @Param("status") OutboxStatus status,
+                                 @Param("id") Long id, @Param("token") String token);
+
+    Optional<OutboxMessage> findFirstByStatusOrderByIdAsc(OutboxStatus status);
+
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * fan-out chunk와 같은 트랜잭션에서 진행 위치를 저장하고 점유 시간을 연장, chunk가 롤백되면 함께 롤백됨
+     * token으로 점유하고 있지 않으면 0(다른 서버가 가져간 메시지)
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxMessage m set m.lastAccountId = :lastAccountId, m.lockedUntil = :until"
+            + " where m.id = :id and m.lockedBy = :token")
+    int saveCheckpoint(@Param("id") Long id, @Param("lastAccountId") Long lastAccountId,
+                       @Param("token") String token, @Param("until") LocalDateTime until);
+
+    // 처리가 끝난 지 오래된 메시지 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxMessage m where m.status = :status and m.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
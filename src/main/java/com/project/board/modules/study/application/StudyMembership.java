@@ -0,0 +1,69 @@
+package com.project.board.modules.study.application;
+
+import com.project.board.modules.account.domain.UserAccount;
+import com.project.board.modules.study.domain.StudyView;
+import com.project.board.modules.study.infra.projection.StudyMember;
+import com.project.board.modules.study.infra.repository.StudyRepository;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스터디 회원 조회, 회원 여부 확인
+ *
+ * 회원 수가 많은 스터디에서 Study.members 전체를 조회하지 않도록
+ *  - 회원 여부, 가입 가능 여부 : study_members 인덱스를 사용하는 존재 여부 쿼리
+ *  - 회원 목록 : 계정 id 기준 keyset 페이징, 화면에 필요한 컬럼만 조회(StudyMember)
+ * 템플릿에서 ${@studyMembership.isMember(study, #authentication.principal)} 형태로 사용
+ */
+@Component("studyMembership")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudyMembership {
+
+    private final StudyRepository studyRepository;
+
+    @Value("${app.study.member-page-size:50}")
+    private int pageSize;
+
+    public boolean isMember(StudyView study, UserAccount userAccount) {
+        return studyRepository.isMember(study.getId(), userAccount.getAccountId());
+    }
+
+    public boolean isJoinable(StudyView study, UserAccount userAccount) {
+        return study.isPublished() && study.isRecruiting() && !study.isManager(userAccount)
+                && !isMember(study, userAccount);
+    }
+
+    public List<StudyMember> getManagers(StudyView study) {
+        return studyRepository.findManagers(study.getId());
+    }
+
+    /**
+     * after(이전 페이지 마지막 회원의 계정 id) 다음부터 한 페이지 조회
+     * 다음 페이지가 있는지 확인하기 위해 한 건 더 조회
+     */
+    public MemberPage getMembers(StudyView study, Long after) {
+        List<StudyMember> members = studyRepository.findMembers(study.getId(), after == null ? 0L : after,
+                pageSize + 1);
+        if (members.size() <= pageSize) {
+            return new MemberPage(members, null);
+        }
+        List<StudyMember> content = members.subList(0, pageSize);
+        return new MemberPage(content, content.get(pageSize - 1).getAccountId());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class MemberPage {
+        private final List<StudyMember> content;
+        private final Long nextAfter; // 마지막 페이지면 null
+
+        public boolean hasNext() {
+            return nextAfter != null;
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.project.board.modules.study.application;
 
+import com.project.board.infra.config.CacheConfig;
 import com.project.board.modules.account.domain.entity.Account;
 import com.project.board.modules.account.domain.entity.Zone;
+import com.project.board.modules.image.application.ImageStore;
 import com.project.board.modules.tag.domain.entity.Tag;
+import com.project.board.modules.study.application.search.StudySearchEngine;
+import com.project.board.modules.study.domain.StudyAspect;
+import com.project.board.modules.study.domain.StudyView;
 import com.project.board.modules.study.domain.entity.Study;
 import com.project.board.modules.study.endpoint.form.StudyDescriptionForm;
 import com.project.board.modules.study.endpoint.form.StudyForm;
@@ -10,6 +15,8 @@ import com.project.board.modules.study.event.StudyCreatedEvent;
 import com.project.board.modules.study.event.StudyUpdateEvent;
 import com.project.board.modules.study.infra.repository.StudyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -21,6 +28,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class StudyService {
     private final StudyRepository studyRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final ImageStore imageStore;
+    private final StudySearchEngine studySearchEngine;
 
     /**
      * 스터디 폼과 현재 로그인 중인 계정 정보를 전달받아 스터디 생성
@@ -34,103 +43,126 @@ public class StudyService {
 
     // 일반 사용자의 접근과 관리자가 수정하기 위해 접근할 때를 구분
     public Study getStudy(String path) {
-        Study study = studyRepository.findByPath(path);
-        checkStudyExists(path, study);
-        return study;
-    }
-
-    public Study getStudyToUpdate(Account account, String path) {
-        return getStudy(account, path, studyRepository.findByPath(path));
+        return getStudy(path, StudyAspect.values());
     }
 
-    public Study getStudyToUpdateTag(Account account, String path) {
-        return getStudy(account, path, studyRepository.findStudyWithTagsByPath(path));
+    public Study getStudy(String path, StudyAspect... aspects) {
+        Study study = studyRepository.findByPathWith(path, aspects);
+        checkStudyExists(path, study);
+        return study;
     }
 
     /**
-     * 스터디 설정 내에서 관심 주제를 변경하거나 지역을 변경할 때는 각각 관심 주제(tag)와 지역(zone) 정보가 스터디와 함께 조회되어야 함
-     * 메서드를 분리하여 해당하는 테이블만 join
+     * 스터디 조회 화면용, 경로를 키로 캐시된 불변 객체 반환
+     * 스터디를 변경하는 메서드에서는 @CacheEvict로 해당 경로의 캐시를 삭제
      */
-    public Study getStudyToUpdateZone(Account account, String path) {
-        return getStudy(account, path, studyRepository.findStudyWithZonesByPath(path));
+    @Cacheable(cacheNames = CacheConfig.STUDY_VIEW, key = "#path")
+    @Transactional(readOnly = true)
+    public StudyView getStudyView(String path) {
+        return StudyView.from(getStudy(path, StudyAspect.TAGS, StudyAspect.ZONES, StudyAspect.MANAGERS));
     }
 
-    public Study getStudyToUpdateStatus(Account account, String path) {
-        return getStudy(account, path, studyRepository.findStudyWithManagersByPath(path));
+    /**
+     * 관리자가 수정하기 위해 스터디를 조회
+     * 관리자 여부는 스터디를 조회하기 전에 존재 여부 쿼리로 확인하고, 스터디는 aspects에 지정한 연관 컬렉션만 채워서 조회
+     * ex) 관심 주제 수정 : getStudyToUpdate(account, path, StudyAspect.TAGS), 공개/종료 등 상태 변경 : getStudyToUpdate(account, path)
+     */
+    public Study getStudyToUpdate(Account account, String path, StudyAspect... aspects) {
+        checkManager(account, path);
+        return getStudy(path, aspects);
     }
 
-    // 스터디 존재, 관리자 여부 검증 메서드도 추출
-    private Study getStudy(Account account, String path, Study studyByPath) {
-        checkStudyExists(path, studyByPath);
-        checkAccountIsManager(account, studyByPath);
-        return studyByPath;
+    /**
+     * 관리자가 아니면 AccessDeniedException, 스터디가 없으면 IllegalArgumentException
+     * 설정 화면처럼 수정할 엔티티가 필요 없는 경우 이 메서드로 확인한 뒤 getStudyView 사용
+     */
+    @Transactional(readOnly = true)
+    public void checkManager(Account account, String path) {
+        if (!studyRepository.isManagedBy(account.getId(), path)) {
+            checkStudyExists(path, studyRepository.existsByPath(path));
+            throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
+        }
     }
 
     private void checkStudyExists(String path, Study study) {
-        if (study == null) {
-            throw new IllegalArgumentException(path + "에 해당하는 스터디가 없습니다.");
-        }
+        checkStudyExists(path, study != null);
     }
 
-    private void checkAccountIsManager(Account account, Study study) {
-        if (!study.isManagedBy(account)) {
-            throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
+    private void checkStudyExists(String path, boolean exists) {
+        if (!exists) {
+            throw new IllegalArgumentException(path + "에 해당하는 스터디가 없습니다.");
         }
     }
 
     // 스터디 설명 수정
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void updateStudyDescription(Study study, StudyDescriptionForm studyDescriptionForm) {
         study.updateDescription(studyDescriptionForm);
         eventPublisher.publishEvent(new StudyUpdateEvent(study, "스터디 소개를 수정했습니다.")); // 스터디가 수정될 때 이벤트 발생시킴
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void updateStudyImage(Study study, String image) {
-        study.updateImage(image);
+        study.updateImage(imageStore.storeDataUrl(image));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void enableStudyBanner(Study study) {
         study.setBanner(true);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void disableStudyBanner(Study study) {
         study.setBanner(false);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void addTag(Study study, Tag tag) {
         study.addTag(tag);
+        studySearchEngine.index(study);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void removeTag(Study study, Tag tag) {
         study.removeTag(tag);
+        studySearchEngine.index(study);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void addZone(Study study, Zone zone) {
         study.addZone(zone);
+        studySearchEngine.index(study);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void removeZone(Study study, Zone zone) {
         study.removeZone(zone);
+        studySearchEngine.index(study);
     }
 
     // 스터디 공개
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void publish(Study study) {
         study.publish();
         eventPublisher.publishEvent(new StudyCreatedEvent(study));
     }
 
     // 스터디 공개 중단
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void close(Study study) {
         study.close();
         eventPublisher.publishEvent(new StudyUpdateEvent(study, "스터디를 종료했습니다."));
     }
 
     // 스터디 팀원 모집 시작
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void startRecruit(Study study) {
         study.startRecruit();
         eventPublisher.publishEvent(new StudyUpdateEvent(study, "팀원 모집을 시작합니다."));
     }
 
     // 스터디 팀원 모집 종료
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void stopRecruit(Study study) {
         study.stopRecruit();
         eventPublisher.publishEvent(new StudyUpdateEvent(study, "팀원 모집을 종료했습니다."));
@@ -149,7 +181,8 @@ public class StudyService {
         return !studyRepository.existsByPath(newPath);
     }
 
-    // 스터디 경로 수정
+    // 스터디 경로 수정, 경로가 바뀌기 전에 기존 경로의 캐시 삭제
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path", beforeInvocation = true)
     public void updateStudyPath(Study study, String newPath) {
         study.updatePath(newPath);
     }
@@ -159,25 +192,46 @@ public class StudyService {
     }
 
     // 스터디 이름 수정
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void updateStudyTitle(Study study, String newTitle) {
         study.updateTitle(newTitle);
+        studySearchEngine.index(study);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void remove(Study study) {
         if (!study.isRemovable()) {
             throw new IllegalStateException("스터디를 삭제할 수 없습니다.");
         }
+        studySearchEngine.remove(study.getId());
         studyRepository.delete(study);
     }
 
-    // 스터디 가입
+    /**
+     * 스터디 가입
+     * 회원 목록을 조회하지 않고 연결 테이블에 바로 추가, 이미 회원이면 추가하지 않음
+     * 회원 수는 UPDATE 문으로 증가시키고 검색 색인에 반영하기 위해 엔티티 값도 맞춰 줌
+     */
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void addMember(Study study, Account account) {
-        study.addMember(account);
-    } // Study Entity에 해당 기능을 위임
+        if (studyRepository.isMember(study.getId(), account.getId())) {
+            return;
+        }
+        studyRepository.insertMember(study.getId(), account.getId());
+        studyRepository.addMemberCount(study.getId(), 1);
+        study.memberJoined();
+        studySearchEngine.index(study);
+    }
 
-    // 스터디 탈퇴
+    // 스터디 탈퇴, 삭제된 행이 있을 때만 회원 수 감소
+    @CacheEvict(cacheNames = CacheConfig.STUDY_VIEW, key = "#study.path")
     public void removeMember(Study study, Account account) {
-        study.removeMember(account);
+        if (studyRepository.deleteMember(study.getId(), account.getId()) == 0) {
+            return;
+        }
+        studyRepository.addMemberCount(study.getId(), -1);
+        study.memberLeft();
+        studySearchEngine.index(study);
     }
 
     public Study getStudyToEnroll(String path) {
@@ -0,0 +1,115 @@
+package com.project.board.modules.study.application.search;
+
+import com.project.board.infra.transaction.AfterCommit;
+import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.study.event.StudyCreatedEvent;
+import com.project.board.modules.study.event.StudyUpdateEvent;
+import com.project.board.modules.study.infra.repository.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 색인을 이용한 스터디 검색
+ *
+ * 애플리케이션 시작 시 공개된 스터디로 색인을 만들고
+ * 이후에는 스터디 공개/수정 이벤트(StudyCreatedEvent, StudyUpdateEvent)와
+ * StudyService의 관심 주제, 지역, 멤버 변경 시점에 색인을 갱신
+ * 색인에 넣을 값은 호출한 트랜잭션 안에서 만들고, 색인 반영은 커밋된 뒤에 수행(AfterCommit)
+ * 롤백된 변경이 검색 결과에 남지 않음
+ *
+ * 검색 결과 전체에 대해 관심 주제, 지역별 스터디 수(facet)를 계산하고
+ * 해당 페이지의 스터디만 DB에서 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.study", name = "search-mode", havingValue = "index", matchIfMissing = true)
+public class IndexedStudySearchEngine implements StudySearchEngine {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int FACET_LIMIT = 10;
+
+    private final StudyRepository studyRepository;
+    private final StudySearchIndex studySearchIndex = new StudySearchIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        studySearchIndex.clear();
+        long lastId = 0L;
+        List<Study> studies;
+        do {
+            studies = studyRepository.findPublishedWithTagsAndZonesAfter(lastId, REBUILD_BATCH_SIZE);
+            for (Study study : studies) {
+                studySearchIndex.put(StudyDocument.from(study));
+                lastId = study.getId();
+            }
+        } while (studies.size() == REBUILD_BATCH_SIZE);
+        log.info("study search index rebuilt: {} studies", studySearchIndex.size());
+    }
+
+    // 이벤트를 발생시킨 트랜잭션 안에서 동기로 처리되므로 지연 로딩된 관심 주제, 지역도 읽을 수 있음, 반영은 커밋 이후
+    @EventListener
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        index(studyCreatedEvent.getStudy());
+    }
+
+    @EventListener
+    public void handleStudyUpdateEvent(StudyUpdateEvent studyUpdateEvent) {
+        index(studyUpdateEvent.getStudy());
+    }
+
+    @Override
+    public StudySearchResult search(String keyword, Pageable pageable) {
+        List<StudyDocument> matched = studySearchIndex.search(keyword, pageable.getSort());
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        List<Long> pageIds = matched.subList(from, to).stream()
+                .map(StudyDocument::getId)
+                .collect(Collectors.toList());
+        List<Study> studies = pageIds.isEmpty()
+                ? Collections.emptyList()
+                : studyRepository.findWithTagsAndZonesByIds(pageIds);
+        return new StudySearchResult(new PageImpl<>(studies, pageable, matched.size()),
+                facetsOf(matched, StudyDocument::getTags),
+                facetsOf(matched, StudyDocument::getZones));
+    }
+
+    @Override
+    public void index(Study study) {
+        if (study.isPublished()) {
+            StudyDocument document = StudyDocument.from(study);
+            AfterCommit.execute(() -> studySearchIndex.put(document));
+        } else {
+            remove(study.getId());
+        }
+    }
+
+    @Override
+    public void remove(Long studyId) {
+        AfterCommit.execute(() -> studySearchIndex.remove(studyId));
+    }
+
+    // 스터디 수가 많은 순으로 FACET_LIMIT개
+    private static Map<String, Long> facetsOf(List<StudyDocument> documents, Function<StudyDocument, List<String>> values) {
+        return documents.stream()
+                .flatMap(document -> values.apply(document).stream())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(FACET_LIMIT)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+}
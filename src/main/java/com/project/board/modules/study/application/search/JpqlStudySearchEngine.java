@@ -0,0 +1,35 @@
+package com.project.board.modules.study.application.search;
+
+import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.study.infra.repository.StudyRepository;
+import com.project.board.modules.zone.application.ZoneService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 색인 없이 DB에서 바로 검색, facet은 제공하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.study", name = "search-mode", havingValue = "jpql")
+public class JpqlStudySearchEngine implements StudySearchEngine {
+
+    private final StudyRepository studyRepository;
+    private final ZoneService zoneService;
+
+    @Override
+    public StudySearchResult search(String keyword, Pageable pageable) {
+        return StudySearchResult.withoutFacets(studyRepository.findByKeyword(keyword,
+                zoneService.findIdsByLocalNameOfCityContaining(keyword), pageable));
+    }
+
+    @Override
+    public void index(Study study) {
+    }
+
+    @Override
+    public void remove(Long studyId) {
+    }
+}
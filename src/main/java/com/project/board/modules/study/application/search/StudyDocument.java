@@ -0,0 +1,61 @@
+package com.project.board.modules.study.application.search;
+
+import com.project.board.infra.search.NGramTokenizer;
+import com.project.board.modules.account.domain.entity.Zone;
+import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.tag.domain.entity.Tag;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 색인에 저장하는 스터디 정보, 검색과 정렬, facet 계산에 필요한 값만 가짐
+ * 색인에 들어간 뒤에는 변경되지 않으므로 락 없이 읽어도 됨
+ */
+@Getter
+class StudyDocument {
+
+    private final Long id;
+    private final String title;
+    private final List<String> tags;
+    private final List<String> zones;
+    private final LocalDateTime publishedDateTime;
+    private final int memberCount;
+
+    private StudyDocument(Study study) {
+        this.id = study.getId();
+        this.title = study.getTitle();
+        this.tags = study.getTags().stream().map(Tag::getTitle).sorted().collect(Collectors.toList());
+        this.zones = study.getZones().stream().map(Zone::getLocalNameOfCity).sorted().collect(Collectors.toList());
+        this.publishedDateTime = study.getPublishedDateTime();
+        this.memberCount = study.getMemberCount() == null ? 0 : study.getMemberCount();
+    }
+
+    static StudyDocument from(Study study) {
+        return new StudyDocument(study);
+    }
+
+    Set<String> terms() {
+        Set<String> terms = new HashSet<>(NGramTokenizer.bigrams(title));
+        tags.forEach(tag -> terms.addAll(NGramTokenizer.bigrams(tag)));
+        zones.forEach(zone -> terms.addAll(NGramTokenizer.bigrams(zone)));
+        return terms;
+    }
+
+    // 기존 검색과 같이 제목, 관심 주제, 지역 이름 중 하나에 검색어가 포함되는지 확인
+    boolean matches(String keyword) {
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        return contains(title, lowerKeyword)
+                || tags.stream().anyMatch(tag -> contains(tag, lowerKeyword))
+                || zones.stream().anyMatch(zone -> contains(zone, lowerKeyword));
+    }
+
+    private static boolean contains(String text, String lowerKeyword) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(lowerKeyword);
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.board.modules.study.application.search;
+
+import com.project.board.modules.study.domain.entity.Study;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 스터디 검색
+ *
+ * app.study.search-mode 설정으로 구현체를 선택
+ *  - index(기본값) : 메모리 색인(IndexedStudySearchEngine), 관심 주제/지역별 개수(facet) 제공
+ *  - jpql : querydsl any() 서브쿼리로 검색(StudyRepositoryExtension.findByKeyword)
+ */
+public interface StudySearchEngine {
+
+    StudySearchResult search(String keyword, Pageable pageable);
+
+    // 스터디가 공개되거나 검색 대상 정보(제목, 관심 주제, 지역, 멤버 수)가 바뀌었을 때 호출
+    void index(Study study);
+
+    void remove(Long studyId);
+}
@@ -0,0 +1,156 @@
+package com.project.board.modules.study.application.search;
+
+import com.project.board.infra.search.NGramTokenizer;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개된 스터디의 역색인(inverted index)
+ *
+ * 제목, 관심 주제, 지역 이름을 bigram으로 잘라 색인하고(NGramTokenizer)
+ * 검색어의 모든 bigram을 가진 스터디를 후보로 고른 뒤, 실제로 검색어를 포함하는지 다시 확인해서
+ * 기존 containsIgnoreCase 검색과 같은 결과를 반환
+ * 검색어가 한 글자인 경우에는 bigram으로 찾을 수 없으므로 전체 스터디를 확인
+ *
+ * 색인 변경은 쓰기 락, 검색은 읽기 락으로 보호
+ */
+class StudySearchIndex {
+
+    private final Map<Long, StudyDocument> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> termsByStudy = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(StudyDocument document) {
+        Set<String> terms = document.terms();
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getId());
+            documents.put(document.getId(), document);
+            terms.forEach(term -> postings.computeIfAbsent(term, t -> new HashSet<>()).add(document.getId()));
+            termsByStudy.put(document.getId(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(studyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            termsByStudy.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어에 해당하는 스터디를 정렬 조건 순서로 반환, 검색어가 비어 있으면 전체 스터디
+     */
+    List<StudyDocument> search(String keyword, Sort sort) {
+        List<StudyDocument> matched = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (StudyDocument document : candidates(keyword)) {
+                if (keyword == null || keyword.isBlank() || document.matches(keyword)) {
+                    matched.add(document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matched.sort(comparatorOf(sort));
+        return matched;
+    }
+
+    // 가장 적은 posting부터 교집합
+    private Collection<StudyDocument> candidates(String keyword) {
+        Set<String> terms = new HashSet<>(NGramTokenizer.bigrams(keyword));
+        if (terms.isEmpty() || terms.stream().anyMatch(term -> term.length() < 2)) {
+            return documents.values();
+        }
+        List<Set<Long>> matched = new ArrayList<>();
+        for (String term : terms) {
+            Set<Long> posting = postings.get(term);
+            if (posting == null) {
+                return List.of();
+            }
+            matched.add(posting);
+        }
+        matched.sort(Comparator.comparingInt(Set::size));
+        List<StudyDocument> candidates = new ArrayList<>();
+        candidates:
+        for (Long studyId : matched.get(0)) {
+            for (Set<Long> posting : matched) {
+                if (!posting.contains(studyId)) {
+                    continue candidates;
+                }
+            }
+            candidates.add(documents.get(studyId));
+        }
+        return candidates;
+    }
+
+    // 공개일, 멤버 수 정렬만 지원하고 동일하면 id 순서
+    private static Comparator<StudyDocument> comparatorOf(Sort sort) {
+        Comparator<StudyDocument> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<StudyDocument> next;
+            if ("memberCount".equals(order.getProperty())) {
+                next = Comparator.comparingInt(StudyDocument::getMemberCount);
+            } else if ("publishedDateTime".equals(order.getProperty())) {
+                next = Comparator.comparing(StudyDocument::getPublishedDateTime, Comparator.nullsFirst(Comparator.naturalOrder()));
+            } else {
+                continue;
+            }
+            comparator = comparator.thenComparing(order.isDescending() ? next.reversed() : next);
+        }
+        return comparator.thenComparing(StudyDocument::getId);
+    }
+
+    private void removeInternal(Long studyId) {
+        documents.remove(studyId);
+        Set<String> terms = termsByStudy.remove(studyId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Set<Long> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(studyId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.board.modules.study.application.search;
+
+import com.project.board.modules.study.domain.entity.Study;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+/**
+ * 스터디 검색 결과
+ * 해당 페이지의 스터디와 검색 결과 전체에 대한 관심 주제, 지역별 스터디 수(facet)
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudySearchResult {
+
+    private final Page<Study> studyPage;
+    private final Map<String, Long> tagFacets;
+    private final Map<String, Long> zoneFacets;
+
+    public static StudySearchResult withoutFacets(Page<Study> studyPage) {
+        return new StudySearchResult(studyPage, Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.board.modules.study.domain;
+
+/**
+ * 스터디를 조회할 때 함께 채울 연관 컬렉션
+ *
+ * 화면이나 기능마다 필요한 컬렉션만 지정해서 조회(StudyRepositoryExtension.findByPathWith, findByIdWith)
+ * ex) 관심 주제 설정 : TAGS, 스터디 가입 : MEMBERS, 스터디 조회 화면 : 전체, 스터디 수정 알림 : MANAGERS, MEMBERS
+ */
+public enum StudyAspect {
+    TAGS, ZONES, MANAGERS, MEMBERS
+}
@@ -0,0 +1,95 @@
+package com.project.board.modules.study.domain;
+
+import com.project.board.modules.account.domain.UserAccount;
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.study.domain.entity.Study;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 스터디 조회 화면용 불변 객체
+ *
+ * 스터디 페이지는 요청마다 태그, 지역, 관리자, 설명, 이미지를 모두 조회하므로 경로(path)를 키로 캐시
+ * 캐시에 엔티티를 그대로 두면 영속성 컨텍스트 밖에서 변경, 지연 로딩 문제가 생기므로 화면에 필요한 값만 복사해서 보관
+ * 관리자는 계정 전체가 아니라 id만 보관해서 관리자 여부 확인에만 사용
+ * 회원은 수가 많을 수 있으므로 보관하지 않음, 회원 여부는 StudyMembership에서 확인
+ *
+ * 분산 캐시로 교체할 수 있도록 Serializable 구현
+ */
+@Getter
+public class StudyView implements Serializable {
+
+    private final Long id;
+    private final String path;
+    private final String title;
+    private final String shortDescription;
+    private final String fullDescription;
+    private final String imageHash;
+    private final boolean useBanner;
+    private final boolean published;
+    private final boolean closed;
+    private final boolean recruiting;
+    private final LocalDateTime publishedDateTime;
+    private final LocalDateTime closedDateTime;
+    private final int memberCount;
+    private final List<TagView> tags;
+    private final List<ZoneView> zones;
+    private final Set<Long> managerIds;
+
+    private StudyView(Study study) {
+        this.id = study.getId();
+        this.path = study.getPath();
+        this.title = study.getTitle();
+        this.shortDescription = study.getShortDescription();
+        this.fullDescription = study.getFullDescription();
+        this.imageHash = study.getImageHash();
+        this.useBanner = study.useBanner();
+        this.published = study.isPublished();
+        this.closed = study.isClosed();
+        this.recruiting = study.isRecruiting();
+        this.publishedDateTime = study.getPublishedDateTime();
+        this.closedDateTime = study.getClosedDateTime();
+        this.memberCount = study.getMemberCount() == null ? 0 : study.getMemberCount();
+        this.tags = study.getTags().stream()
+                .map(tag -> new TagView(tag.getTitle()))
+                .collect(Collectors.toUnmodifiableList());
+        this.zones = study.getZones().stream()
+                .map(zone -> new ZoneView(zone.getLocalNameOfCity()))
+                .collect(Collectors.toUnmodifiableList());
+        this.managerIds = study.getManagers().stream()
+                .map(Account::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static StudyView from(Study study) {
+        return new StudyView(study);
+    }
+
+    public boolean isManager(UserAccount userAccount) {
+        return this.managerIds.contains(userAccount.getAccountId());
+    }
+
+    public String getEncodedPath() {
+        return URLEncoder.encode(path, StandardCharsets.UTF_8);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class TagView implements Serializable {
+        private final String title;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ZoneView implements Serializable {
+        private final String localNameOfCity;
+    }
+}
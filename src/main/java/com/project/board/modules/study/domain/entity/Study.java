@@ -20,8 +20,6 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.Lob;
 import javax.persistence.ManyToMany;
-import javax.persistence.NamedAttributeNode;
-import javax.persistence.NamedEntityGraph;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -67,36 +65,12 @@ import org.hibernate.annotations.ColumnDefault;
  * 조회 쿼리를 날렸을 때 데이터들의 개수만큼 조인 쿼리가 발생하는 것(성능에 영향을 주기 때문에 방치할 수 없음)
  *
  * NamedEntityGraph : Entity 클래스에 정의, name에는  repository에서 사용할 이름을 정의,  attributeNodes에는 연관관계가 된 클래스의 변수명 정의
- * tags, zones, managers, members 4가지 attribute에 대해 Lazy(지연)로딩을 사용하지 않음
+ * 스터디는 고정된 EntityGraph 대신 필요한 컬렉션만 지정해서 조회(StudyAspect, StudyRepositoryExtension.findByPathWith, findByIdWith)
  *
  * 즉시 로딩 - 연관 관계에 있는 엔티티들을 모두 조회
  * 지연 로딩 - 연관 관계에 있는 엔티티들을 가져오지 않고 필요할 때 조회
  */
 @Entity
-@NamedEntityGraph(name = "Study.withAll", attributeNodes = {
-    @NamedAttributeNode("tags"),
-    @NamedAttributeNode("zones"),
-    @NamedAttributeNode("managers"),
-    @NamedAttributeNode("members")
-})
-@NamedEntityGraph(name = "Study.withTagsAndManagers", attributeNodes = { // 스터디 주제
-    @NamedAttributeNode("tags"),
-    @NamedAttributeNode("managers")
-})
-@NamedEntityGraph(name = "Study.withZonesAndManagers", attributeNodes = { // 스터디 활동 지역
-    @NamedAttributeNode("zones"),
-    @NamedAttributeNode("managers")
-})
-@NamedEntityGraph(name = "Study.withManagers", attributeNodes = { // 스터디 관리자
-    @NamedAttributeNode("managers")
-})
-@NamedEntityGraph(name = "Study.withMembers", attributeNodes = { // 스터디 회원
-    @NamedAttributeNode("members")
-})
-@NamedEntityGraph(name = "Study.withTagsAndZones", attributeNodes = { // 관심 주제와 지역 정보
-    @NamedAttributeNode("tags"),
-    @NamedAttributeNode("zones")
-})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Study {
@@ -124,9 +98,9 @@ public class Study {
   @Basic(fetch = FetchType.EAGER) // 즉시로딩 : 특정 엔티티를 조회할 때 연관된 모든 엔티티를 같이 로딩
   private String fullDescription;
 
-  @Lob
-  @Basic(fetch = FetchType.EAGER)
-  private String image;
+  // 배너 이미지는 이미지 저장소에 파일로 저장하고 내용 해시만 저장
+  @Column(length = 64)
+  private String imageHash;
 
   @ManyToMany
   private Set<Tag> tags = new HashSet<>();
@@ -150,8 +124,10 @@ public class Study {
   @Accessors(fluent = true) // 메서드가 생성되는 것을 방지
   private boolean useBanner;
 
-  // 스터디 검색 페이지에서 정렬을 위해 사용
+  // 스터디 검색 페이지에서 정렬, 구성원 화면의 회원 수로 사용
+  // 가입, 탈퇴가 동시에 일어나도 값이 맞도록 StudyRepository.addMemberCount로만 변경(dirty checking 대상에서 제외)
   @ColumnDefault(value = "0")
+  @Column(updatable = false)
   private Integer memberCount = 0;
 
   // static 생성자
@@ -169,21 +145,11 @@ public class Study {
     managers.add(account);
   }
 
-  // 스터디 가입 가능 여부 메서드
-  public boolean isJoinable(UserAccount userAccount) {
-    Account account = userAccount.getAccount();
-    return this.isPublished() && this.isRecruiting() && !this.members.contains(account)
-        && !this.managers.contains(account);
-  }
-
-  // 스터디 멤버 확인 여부 메서드
-  public boolean isMember(UserAccount userAccount) {
-    return this.members.contains(userAccount.getAccount());
-  }
+  // 가입 가능 여부, 회원 여부는 회원 목록을 조회하지 않도록 StudyMembership에서 존재 여부 쿼리로 확인
 
   // 스터디 관리자 확인 여부 메서드
   public boolean isManager(UserAccount userAccount) {
-    return this.managers.contains(userAccount.getAccount());
+    return this.managers.stream().anyMatch(userAccount::isAccount);
   }
 
   // 스터디 수정 내용 업데이트
@@ -192,8 +158,8 @@ public class Study {
     this.fullDescription = studyDescriptionForm.getFullDescription();
   }
 
-  public void updateImage(String image) {
-    this.image = image;
+  public void updateImage(String imageHash) {
+    this.imageHash = imageHash;
   }
 
   public void setBanner(boolean useBanner) {
@@ -271,15 +237,16 @@ public class Study {
     this.recruitingUpdatedDateTime = LocalDateTime.now();
   }
 
-  // 스터디 참여
-  public void addMember(Account account) {
-    this.members.add(account);
+  /**
+   * 스터디 참여, 탈퇴
+   * 회원은 StudyRepository.insertMember/deleteMember로 연결 테이블에 직접 추가, 삭제하고
+   * 아래 메서드는 같은 트랜잭션에서 사용하는 엔티티의 회원 수만 맞춰 줌(검색 색인 갱신용)
+   */
+  public void memberJoined() {
     this.memberCount++;
   }
 
-  // 스터디 탈퇴
-  public void removeMember(Account account) {
-    this.members.remove(account);
+  public void memberLeft() {
     this.memberCount--;
   }
 
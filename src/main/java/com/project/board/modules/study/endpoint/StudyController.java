@@ -2,11 +2,13 @@ package com.project.board.modules.study.endpoint;
 
 import com.project.board.modules.account.domain.entity.Account;
 import com.project.board.modules.account.support.CurrentUser;
+import com.project.board.modules.study.application.StudyMembership;
 import com.project.board.modules.study.application.StudyService;
+import com.project.board.modules.study.domain.StudyAspect;
+import com.project.board.modules.study.domain.StudyView;
 import com.project.board.modules.study.endpoint.form.StudyForm;
 import com.project.board.modules.study.endpoint.form.validator.StudyFormValidator;
 import com.project.board.modules.study.domain.entity.Study;
-import com.project.board.modules.study.infra.repository.StudyRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import javax.validation.Valid;
 import java.net.URLEncoder;
@@ -26,7 +29,7 @@ import java.nio.charset.StandardCharsets;
 public class StudyController {
     private final StudyService studyService;
     private final StudyFormValidator studyFormValidator;
-    private final StudyRepository studyRepository;
+    private final StudyMembership studyMembership;
 
     // 스터디 폼 검증
     @InitBinder("studyForm")
@@ -37,7 +40,7 @@ public class StudyController {
     // 스터디 생성
     @GetMapping("/new-study")
     public String newStudyForm(@CurrentUser Account account, Model model) {
-        model.addAttribute(account);
+        model.addAttribute("account", account);
         model.addAttribute(new StudyForm());
         return "study/form";
     }
@@ -58,23 +61,31 @@ public class StudyController {
      */
     @GetMapping("/study/{path}")
     public String viewStudy(@CurrentUser Account account, @PathVariable String path, Model model) {
-        model.addAttribute(account);
-        model.addAttribute(studyService.getStudy(path));
+        model.addAttribute("account", account);
+        model.addAttribute("study", studyService.getStudyView(path));
         return "study/view";
     }
 
-    // 스터디 조회 화면에서 구성원 메뉴 클릭 후 관련 페이지 이동
+    /**
+     * 스터디 조회 화면에서 구성원 메뉴 클릭 후 관련 페이지 이동
+     * 회원은 한 페이지씩 조회, after(이전 페이지 마지막 회원의 계정 id)로 다음 페이지 요청
+     * 회원 수는 StudyView.memberCount 사용
+     */
     @GetMapping("/study/{path}/members")
-    public String viewStudyMembers(@CurrentUser Account account, @PathVariable String path, Model model) {
-        model.addAttribute(account);
-        model.addAttribute(studyService.getStudy(path));
+    public String viewStudyMembers(@CurrentUser Account account, @PathVariable String path,
+                                   @RequestParam(required = false) Long after, Model model) {
+        StudyView study = studyService.getStudyView(path);
+        model.addAttribute("account", account);
+        model.addAttribute("study", study);
+        model.addAttribute("managers", studyMembership.getManagers(study));
+        model.addAttribute("memberPage", studyMembership.getMembers(study, after));
         return "study/members";
     }
 
     // 스터디 가입
     @GetMapping("/study/{path}/join")
     public String joinStudy(@CurrentUser Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
+        Study study = studyService.getStudy(path, StudyAspect.TAGS, StudyAspect.ZONES); // 검색 색인 갱신에 필요한 것만 조회
         studyService.addMember(study, account);
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
@@ -82,7 +93,7 @@ public class StudyController {
     // 스터디 탈퇴
     @GetMapping("/study/{path}/leave")
     public String leaveStudy(@CurrentUser Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
+        Study study = studyService.getStudy(path, StudyAspect.TAGS, StudyAspect.ZONES); // 검색 색인 갱신에 필요한 것만 조회
         studyService.removeMember(study, account);
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
@@ -1,20 +1,20 @@
 package com.project.board.modules.study.endpoint;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.board.modules.account.domain.entity.Account;
 import com.project.board.modules.account.domain.entity.Zone;
 import com.project.board.modules.account.endpoint.controller.form.TagForm;
 import com.project.board.modules.account.endpoint.controller.form.ZoneForm;
 import com.project.board.modules.account.support.CurrentUser;
 import com.project.board.modules.study.application.StudyService;
+import com.project.board.modules.study.domain.StudyAspect;
+import com.project.board.modules.study.domain.StudyView;
 import com.project.board.modules.study.domain.entity.Study;
 import com.project.board.modules.study.endpoint.form.StudyDescriptionForm;
 import com.project.board.modules.tag.application.TagService;
 import com.project.board.modules.tag.domain.entity.Tag;
 import com.project.board.modules.tag.infra.repository.TagRepository;
 import com.project.board.modules.study.infra.repository.StudyRepository;
-import com.project.board.modules.zone.infra.repository.ZoneRepository;
+import com.project.board.modules.zone.application.ZoneService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
@@ -35,25 +35,14 @@ public class StudySettingsController {
     private final TagService tagService;
     private final StudyRepository studyRepository;
     private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
-
-    /**
-     * ObjectMapper
-     * - JSON을 Java객체로 역직렬화, Java객체를 JSON으로 직렬화할 때 이용하는 라이브러리
-     * - 역직렬화 : String(JSON) -> Object
-     * - 직렬화 : Object -> String(JSON)
-     *
-     * 이 클래스에서는 whitelist를 작성해서 반환해 주기 위해 선언
-     * whitelist : 안전이 증명된 것만 허용
-     */
-    private final ObjectMapper objectMapper;
+    private final ZoneService zoneService;
 
     // 스터디 설정 폼 조회(소개)
     @GetMapping("/description")
     public String viewStudySetting(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
-        model.addAttribute(account);
-        model.addAttribute(study);
+        StudyView study = getStudyViewToUpdate(account, path);
+        model.addAttribute("account", account);
+        model.addAttribute("study", study);
         model.addAttribute(StudyDescriptionForm.builder()
                 .shortDescription(study.getShortDescription())
                 .fullDescription(study.getFullDescription())
@@ -66,8 +55,8 @@ public class StudySettingsController {
     public String updateStudy(@CurrentUser Account account, @PathVariable String path, @Valid StudyDescriptionForm studyDescriptionForm, Errors errors, Model model, RedirectAttributes attributes) {
         Study study = studyService.getStudyToUpdate(account, path);
         if (errors.hasErrors()) {
-            model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute("account", account);
+            model.addAttribute("study", studyService.getStudyView(path));
             return "study/settings/description";
         }
         studyService.updateStudyDescription(study, studyDescriptionForm);
@@ -78,9 +67,8 @@ public class StudySettingsController {
     // 배너 페이지 라우팅
     @GetMapping("/banner")
     public String studyImageForm(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
-        model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("account", account);
+        model.addAttribute("study", getStudyViewToUpdate(account, path));
         return "study/settings/banner";
     }
 
@@ -109,25 +97,25 @@ public class StudySettingsController {
         return "redirect:/study/" + study.getEncodedPath() + "/settings/banner";
     }
 
-    // 스터디 관심 주제(태그) 설정
+    /**
+     * 스터디 관심 주제(태그) 설정
+     * 자동완성 목록(whitelist : 안전이 증명된 것만 허용)은 화면에서 /whitelist/tags로 따로 조회
+     */
     @GetMapping("/tags")
-    public String studyTagsForm(@CurrentUser Account account, @PathVariable String path, Model model) throws JsonProcessingException {
-        Study study = studyService.getStudyToUpdate(account, path);
-        model.addAttribute(account);
-        model.addAttribute(study);
+    public String studyTagsForm(@CurrentUser Account account, @PathVariable String path, Model model) {
+        StudyView study = getStudyViewToUpdate(account, path);
+        model.addAttribute("account", account);
+        model.addAttribute("study", study);
         model.addAttribute("tags", study.getTags().stream()
-                .map(Tag::getTitle)
+                .map(StudyView.TagView::getTitle)
                 .collect(Collectors.toList()));
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(tagRepository.findAll().stream()
-                .map(Tag::getTitle)
-                .collect(Collectors.toList()))); // writeValueAsString : Object -> JSON 변환 메서드
         return "study/settings/tags";
     }
     
     @PostMapping("/tags/add")
     @ResponseStatus(HttpStatus.OK)
     public void addTag(@CurrentUser Account account, @PathVariable String path, @RequestBody TagForm tagForm) {
-        Study study = studyService.getStudyToUpdateTag(account, path);
+        Study study = studyService.getStudyToUpdate(account, path, StudyAspect.TAGS);
         Tag tag = tagService.findOrCreateNew(tagForm.getTagTitle());
         studyService.addTag(study, tag);
     }
@@ -135,7 +123,7 @@ public class StudySettingsController {
     @PostMapping("/tags/remove")
     @ResponseStatus(HttpStatus.OK)
     public void removeTag(@CurrentUser Account account, @PathVariable String path, @RequestBody TagForm tagForm) {
-        Study study = studyService.getStudyToUpdateTag(account, path);
+        Study study = studyService.getStudyToUpdate(account, path, StudyAspect.TAGS);
         Tag tag = tagRepository.findByTitle(tagForm.getTagTitle())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 태그입니다."));
         studyService.removeTag(study, tag);
@@ -143,24 +131,21 @@ public class StudySettingsController {
 
     // 스터디 활동 지역 설정
     @GetMapping("/zones")
-    public String studyZonesForm(@CurrentUser Account account, @PathVariable String path, Model model) throws JsonProcessingException {
-        Study study = studyService.getStudyToUpdate(account, path);
-        model.addAttribute(account);
-        model.addAttribute(study);
+    public String studyZonesForm(@CurrentUser Account account, @PathVariable String path, Model model) {
+        Study study = studyService.getStudyToUpdate(account, path, StudyAspect.ZONES); // 지역 표시 형식(Zone.toString)이 필요하므로 지역만 함께 조회
+        model.addAttribute("account", account);
+        model.addAttribute("study", studyService.getStudyView(path));
         model.addAttribute("zones", study.getZones().stream()
                 .map(Zone::toString)
                 .collect(Collectors.toList()));
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(zoneRepository.findAll().stream()
-                .map(Zone::toString)
-                .collect(Collectors.toList())));
         return "study/settings/zones";
     }
 
     @PostMapping("/zones/add")
     @ResponseStatus(HttpStatus.OK)
     public void addZones(@CurrentUser Account account, @PathVariable String path, @RequestBody ZoneForm zoneForm) {
-        Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
+        Study study = studyService.getStudyToUpdate(account, path, StudyAspect.ZONES);
+        Zone zone = zoneService.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지역입니다."));
         studyService.addZone(study, zone);
     }
@@ -168,8 +153,8 @@ public class StudySettingsController {
     @PostMapping("/zones/remove")
     @ResponseStatus(HttpStatus.OK)
     public void removeZones(@CurrentUser Account account, @PathVariable String path, @RequestBody ZoneForm zoneForm) {
-        Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
+        Study study = studyService.getStudyToUpdate(account, path, StudyAspect.ZONES);
+        Zone zone = zoneService.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지역입니다."));
         studyService.removeZone(study, zone);
     }
@@ -181,16 +166,15 @@ public class StudySettingsController {
      */
     @GetMapping("/study")
     public String studySettingForm(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
-        model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("account", account);
+        model.addAttribute("study", getStudyViewToUpdate(account, path));
         return "study/settings/study";
     }
 
     // 스터디 공개
     @PostMapping("/study/publish")
     public String publishStudy(@CurrentUser Account account, @PathVariable String path, RedirectAttributes attributes) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         studyService.publish(study);
         attributes.addFlashAttribute("message", "스터디를 공개했습니다.");
         return "redirect:/study/" + study.getEncodedPath() + "/settings/study";
@@ -199,7 +183,7 @@ public class StudySettingsController {
     // 스터디 종료
     @PostMapping("/study/close")
     public String closeStudy(@CurrentUser Account account, @PathVariable String path, RedirectAttributes attributes) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         studyService.close(study);
         attributes.addFlashAttribute("message", "스터디를 종료했습니다.");
         return "redirect:/study/" + study.getEncodedPath() + "/settings/study";
@@ -208,7 +192,7 @@ public class StudySettingsController {
     // 스터디 팀원 모집 시작
     @PostMapping("/recruit/start")
     public String startRecruit(@CurrentUser Account account, @PathVariable String path, Model model, RedirectAttributes attributes) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         if (!study.isEnableToRecruit()) {
             attributes.addFlashAttribute("message", "1시간 안에 인원 모집 설정을 여러 번 변경할 수 없습니다.");
             return "redirect:/study/" + study.getEncodedPath() + "/settings/study";
@@ -221,7 +205,7 @@ public class StudySettingsController {
     // 스터디 팀원 모집 중단
     @PostMapping("/recruit/stop")
     public String stopRecruit(@CurrentUser Account account, @PathVariable String path, Model model, RedirectAttributes attributes) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         if (!study.isEnableToRecruit()) {
             attributes.addFlashAttribute("message", "1시간 안에 인원 모집 설정을 여러 번 변경할 수 없습니다.");
             return "redirect:/study/" + study.getEncodedPath() + "/settings/study";
@@ -234,10 +218,10 @@ public class StudySettingsController {
     // 스터디 경로 수정
     @PostMapping("/study/path")
     public String updateStudyPath(@CurrentUser Account account, @PathVariable String path, @RequestParam String newPath, Model model, RedirectAttributes attributes) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         if (!studyService.isValidPath(newPath)) {
-            model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute("account", account);
+            model.addAttribute("study", studyService.getStudyView(path));
             model.addAttribute("studyPathError", "사용할 수 없는 스터디 경로입니다.");
             return "study/settings/study";
         }
@@ -250,10 +234,10 @@ public class StudySettingsController {
     @PostMapping("/study/title")
     public String updateStudyTitle(@CurrentUser Account account, @PathVariable String path, String newTitle,
                                    Model model, RedirectAttributes attributes) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         if (!studyService.isValidTitle(newTitle)) {
-            model.addAttribute(account);
-            model.addAttribute(study);
+            model.addAttribute("account", account);
+            model.addAttribute("study", studyService.getStudyView(path));
             model.addAttribute("studyTitleError", "스터디 이름을 다시 입력하세요.");
             return "study/settings/study";
         }
@@ -266,8 +250,17 @@ public class StudySettingsController {
     // 스터디 삭제
     @PostMapping("/study/remove")
     public String removeStudy(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdateStatus(account, path);
+        Study study = studyService.getStudyToUpdate(account, path);
         studyService.remove(study);
         return "redirect:/";
     }
+
+    /**
+     * 설정 화면의 스터디 정보는 캐시된 StudyView로 표시
+     * 관리자 여부는 스터디를 조회하지 않고 존재 여부 쿼리로 확인
+     */
+    private StudyView getStudyViewToUpdate(Account account, String path) {
+        studyService.checkManager(account, path);
+        return studyService.getStudyView(path);
+    }
 }
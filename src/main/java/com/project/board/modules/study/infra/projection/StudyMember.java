@@ -0,0 +1,18 @@
+package com.project.board.modules.study.infra.projection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스터디 구성원 목록 화면에 필요한 계정 컬럼만 조회
+ * accountId는 다음 페이지를 조회하는 기준(keyset)으로 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyMember {
+
+    private final Long accountId;
+    private final String nickname;
+    private final String imageHash;
+    private final String bio;
+}
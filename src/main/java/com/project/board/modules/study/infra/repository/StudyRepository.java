@@ -7,6 +7,9 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(readOnly = true)
@@ -14,45 +17,18 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
 
   boolean existsByPath(String path);
 
-  // @NamedEntityGraph에 정의한 이름 작성
-  @EntityGraph(value = "Study.withAll", type = EntityGraph.EntityGraphType.LOAD)
-  Study findByPath(String path);
-
-  @EntityGraph(value = "Study.withTagsAndManagers", type = EntityGraph.EntityGraphType.FETCH)
-  Study findStudyWithTagsByPath(String path);
-
-  @EntityGraph(value = "Study.withZonesAndManagers", type = EntityGraph.EntityGraphType.FETCH)
-  Study findStudyWithZonesByPath(String path);
-
-  @EntityGraph(value = "Study.withManagers", type = EntityGraph.EntityGraphType.FETCH)
-  Study findStudyWithManagersByPath(String path);
-
-  @EntityGraph(value = "Study.withMembers", type = EntityGraph.EntityGraphType.FETCH)
-  Study findStudyWithMembersByPath(String path);
-
   /**
    * EventController에서 Study를 조회하기 위한 메서드
    *
    * 모임 조회시에는 관심사, 지역, 관리자, 회원 등을 가져올 필요가 없으므로 EntityGraph 불필요
+   * 연관 컬렉션이 필요하면 필요한 것만 지정하는 findByPathWith(StudyRepositoryExtension) 사용
    */
   Optional<Study> findStudyOnlyByPath(String path);
 
-  @EntityGraph(value = "Study.withTagsAndZones", type = EntityGraph.EntityGraphType.FETCH)
-  Study findStudyWithTagsAndZonesById(Long id);
-
   /**
-   * 그동안은 EntityGraph 사용을 위해 Entity에 @NamedEntityGraph를 지정하고 Repository에서 @EntityGraph 참조했지만
-   * 이번엔 Repository에서 한 번에 처리하는 방법으로 추가해 볼 것
-   *
-   * 먼저 Study가 업데이트 될 때 알림을 보내야 할 대상은 관리자와 멤버, fetch join으로 같이 조회해야 할 대상이 됨
-   * 아래와 같이 구현
-   *
+   * 로그인 전 스터디 조회
    * @EntityGraph의 attribute로 attributePaths를 바로 지정 가능 이 때 type은 기본이 FETCH 이므로 생략 가능
    */
-  @EntityGraph(attributePaths = {"managers", "members"})
-  Study findStudyWithManagersAndMembersById(Long id);
-
-  // 로그인 전 스터디 조회
   @EntityGraph(attributePaths = {"tags", "zones"})
   List<Study> findFirst9ByPublishedAndClosedOrderByPublishedDateTimeDesc(boolean published,
       boolean closed);
@@ -60,4 +36,24 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
                                                                                   boolean closed);
   List<Study> findFirst5ByMembersContainingAndClosedOrderByPublishedDateTimeDesc(Account account,
       boolean closed);
-}
\ No newline at end of file
+
+  /**
+   * 스터디 가입, 탈퇴
+   * Study.members에 추가, 삭제하면 회원 목록 전체를 조회하게 되므로 연결 테이블(study_members)에 직접 추가, 삭제
+   * 회원 수(memberCount)도 UPDATE 문으로 증감해서 동시에 가입해도 값이 맞도록 함
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "insert into study_members (study_id, members_account_id) values (:studyId, :accountId)", nativeQuery = true)
+  int insertMember(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+  @Transactional
+  @Modifying
+  @Query(value = "delete from study_members where study_id = :studyId and members_account_id = :accountId", nativeQuery = true)
+  int deleteMember(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+  @Transactional
+  @Modifying
+  @Query("update Study s set s.memberCount = s.memberCount + :delta where s.id = :id")
+  int addMemberCount(@Param("id") Long id, @Param("delta") int delta);
+}
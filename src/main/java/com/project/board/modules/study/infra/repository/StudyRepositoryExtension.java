@@ -1,9 +1,12 @@
 package com.project.board.modules.study.infra.repository;
 
 import com.project.board.modules.account.domain.entity.Zone;
+import com.project.board.modules.study.domain.StudyAspect;
 import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.study.infra.projection.StudyMember;
 import com.project.board.modules.tag.domain.entity.Tag;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.domain.Page;
@@ -19,7 +22,34 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public interface StudyRepositoryExtension {
 
-  Page<Study> findByKeyword(String keyword, Pageable pageable);
+  // 지역은 DB에서 이름을 비교하지 않고 ZoneService에서 찾은 id(zoneIds)로 조건을 만듦
+  Page<Study> findByKeyword(String keyword, Collection<Long> zoneIds, Pageable pageable);
+
+  /**
+   * 경로로 스터디를 조회하고 aspects에 지정한 연관 컬렉션만 채움, 스터디가 없으면 null
+   * 컬렉션을 한 쿼리에서 모두 fetchJoin하면 컬렉션 크기의 곱만큼 row가 생기므로 컬렉션마다 쿼리를 나눠서 조회
+   */
+  Study findByPathWith(String path, StudyAspect... aspects);
+
+  // 이벤트 처리처럼 경로 대신 id로 조회할 때 사용, 조회 방식은 findByPathWith와 같음
+  Study findByIdWith(Long id, StudyAspect... aspects);
+
+  // 스터디 엔티티를 조회하지 않고 관리자 여부만 확인
+  boolean isManagedBy(Long accountId, String path);
+
+  // 스터디 회원 여부 확인, 회원 목록을 조회하지 않고 study_members의 (study_id, members_account_id) 인덱스로 확인
+  boolean isMember(Long studyId, Long accountId);
+
+  // 계정 id가 afterAccountId보다 큰 회원을 id 순서로 size개 조회(keyset 페이징)
+  List<StudyMember> findMembers(Long studyId, Long afterAccountId, int size);
+
+  List<StudyMember> findManagers(Long studyId);
+
+  // 주어진 id 순서대로 관심 주제, 지역과 함께 조회
+  List<Study> findWithTagsAndZonesByIds(List<Long> ids);
+
+  // 검색 색인 생성용, id가 lastId보다 큰 공개된 스터디를 size개씩 조회
+  List<Study> findPublishedWithTagsAndZonesAfter(Long lastId, int size);
 
   // 로그인 전 스터디 조회를 위한 메서드
   List<Study> findByAccount(Set<Tag> tags, Set<Zone> zones);
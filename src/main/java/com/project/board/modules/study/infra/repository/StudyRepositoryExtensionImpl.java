@@ -3,19 +3,28 @@ package com.project.board.modules.study.infra.repository;
 import com.project.board.modules.account.domain.entity.QAccount;
 import com.project.board.modules.account.domain.entity.QZone;
 import com.project.board.modules.account.domain.entity.Zone;
+import com.project.board.modules.study.domain.StudyAspect;
 import com.project.board.modules.study.domain.entity.QStudy;
 import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.study.infra.projection.StudyMember;
 import com.project.board.modules.tag.domain.entity.QTag;
 import com.project.board.modules.tag.domain.entity.Tag;
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
 // 키워드 검색 내용을 구현할 클래스
 public class StudyRepositoryExtensionImpl extends QuerydslRepositorySupport implements
@@ -31,34 +40,156 @@ public class StudyRepositoryExtensionImpl extends QuerydslRepositorySupport impl
    *
    * left (outer) join만 추가하게 되면 첫 번째(left) 테이블에 연관 관계가 있는 모든 데이터를 가져오고(연관 관계가 없으면 null로), 중복 row가 발생함
    * 이를 해결하기 위해 추가로 fetchJoin와 distinct 필요
-   
+   *
    * fetchJoin : join 관계 데이터를 한 번에 가져오기 때문에 쿼리의 수가 줄어듦
    * distinct : 중복된 row를 제거
    *
    *
    * querydsl에 페이징(Paging) 적용
    *
-   * getQuerydsl()을 이용해 QuerydslRepositorySupport가 제공하는 기능을 사용할 수 있는데 페이징을 적용하기 위해 applyPagination을 호출
-   * fetchResults를 이용해 조회한 결과를 얻을 수 있음
-   * 반환해야 할 타입이 Page이므로 구현체인 PageImpl을 이용해 반환
-   * 결과 데이터, pageable, 전체 데이터 수를 생성자로 전달해 줌
+   * 컬렉션을 fetchJoin한 쿼리에 페이징을 적용하면 DB에서 limit을 걸 수 없어서
+   * Hibernate가 조건에 맞는 모든 스터디와 회원 row를 가져온 뒤 메모리에서 페이징함(HHH000104)
+   * 그래서 두 단계로 나눠서 조회
+   *  1. 조인 없이 해당 페이지의 스터디 id만 limit/offset으로 조회, 전체 개수는 별도 count 쿼리로 조회
+   *  2. 해당 id의 스터디만 tags, zones를 fetchJoin해서 조회
+   * 회원 수는 Study.memberCount를 사용하므로 members는 조회하지 않음
    */
   // querydsl을 이용해 쿼리를 생성한 뒤 조회
   @Override
-  public Page<Study> findByKeyword(String keyword, Pageable pageable) {
+  public Page<Study> findByKeyword(String keyword, Collection<Long> zoneIds, Pageable pageable) {
     QStudy study = QStudy.study;
-    JPQLQuery<Study> query = from(study)
-        .where(study.published.isTrue()
-            .and(study.title.containsIgnoreCase(keyword))
-            .or(study.tags.any().title.containsIgnoreCase(keyword))
-            .or(study.zones.any().localNameOfCity.containsIgnoreCase(keyword)))
+    BooleanExpression textMatches = study.title.containsIgnoreCase(keyword)
+        .or(study.tags.any().title.containsIgnoreCase(keyword));
+    if (!zoneIds.isEmpty()) {
+      textMatches = textMatches.or(study.zones.any().id.in(zoneIds));
+    }
+    BooleanExpression keywordMatches = study.published.isTrue().and(textMatches);
+
+    JPQLQuery<Long> idQuery = from(study).select(study.id).where(keywordMatches);
+    List<Long> ids = getQuerydsl().applyPagination(pageable, idQuery).fetch();
+    List<Study> studies = ids.isEmpty() ? Collections.emptyList() : findWithTagsAndZonesByIds(ids);
+
+    return PageableExecutionUtils.getPage(studies, pageable,
+        () -> from(study).where(keywordMatches).fetchCount());
+  }
+
+  /**
+   * 스터디를 먼저 조회한 뒤 지정한 컬렉션마다 같은 스터디를 fetchJoin으로 다시 조회
+   * 이미 영속성 컨텍스트에 있는 스터디의 컬렉션이 조회 결과로 초기화되므로 반환 값은 사용하지 않음
+   */
+  @Override
+  public Study findByPathWith(String path, StudyAspect... aspects) {
+    QStudy study = QStudy.study;
+    return fetchAspects(from(study).where(study.path.eq(path)).fetchOne(), aspects);
+  }
+
+  @Override
+  public Study findByIdWith(Long id, StudyAspect... aspects) {
+    QStudy study = QStudy.study;
+    return fetchAspects(from(study).where(study.id.eq(id)).fetchOne(), aspects);
+  }
+
+  private Study fetchAspects(Study found, StudyAspect... aspects) {
+    if (found == null) {
+      return null;
+    }
+    QStudy study = QStudy.study;
+    for (StudyAspect aspect : aspects) {
+      JPQLQuery<Study> query = from(study).where(study.id.eq(found.getId()));
+      switch (aspect) {
+        case TAGS:
+          query.leftJoin(study.tags, QTag.tag).fetchJoin();
+          break;
+        case ZONES:
+          query.leftJoin(study.zones, QZone.zone).fetchJoin();
+          break;
+        case MANAGERS:
+          query.leftJoin(study.managers, new QAccount("manager")).fetchJoin();
+          break;
+        case MEMBERS:
+          query.leftJoin(study.members, new QAccount("member")).fetchJoin();
+          break;
+      }
+      query.fetch();
+    }
+    return found;
+  }
+
+  @Override
+  public boolean isManagedBy(Long accountId, String path) {
+    QStudy study = QStudy.study;
+    QAccount manager = new QAccount("manager");
+    return from(study)
+        .innerJoin(study.managers, manager)
+        .where(study.path.eq(path).and(manager.id.eq(accountId)))
+        .select(study.id)
+        .fetchFirst() != null;
+  }
+
+  @Override
+  public boolean isMember(Long studyId, Long accountId) {
+    QStudy study = QStudy.study;
+    QAccount member = new QAccount("member");
+    return from(study)
+        .innerJoin(study.members, member)
+        .where(study.id.eq(studyId).and(member.id.eq(accountId)))
+        .select(study.id)
+        .fetchFirst() != null;
+  }
+
+  @Override
+  public List<StudyMember> findMembers(Long studyId, Long afterAccountId, int size) {
+    QStudy study = QStudy.study;
+    QAccount member = new QAccount("member");
+    return from(study)
+        .innerJoin(study.members, member)
+        .where(study.id.eq(studyId).and(member.id.gt(afterAccountId)))
+        .select(Projections.constructor(StudyMember.class,
+            member.id, member.nickname, member.profile.imageHash, member.profile.bio))
+        .orderBy(member.id.asc())
+        .limit(size)
+        .fetch();
+  }
+
+  @Override
+  public List<StudyMember> findManagers(Long studyId) {
+    QStudy study = QStudy.study;
+    QAccount manager = new QAccount("manager");
+    return from(study)
+        .innerJoin(study.managers, manager)
+        .where(study.id.eq(studyId))
+        .select(Projections.constructor(StudyMember.class,
+            manager.id, manager.nickname, manager.profile.imageHash, manager.profile.bio))
+        .orderBy(manager.id.asc())
+        .fetch();
+  }
+
+  // id 순서(정렬된 페이지 순서)를 유지해서 반환
+  @Override
+  public List<Study> findWithTagsAndZonesByIds(List<Long> ids) {
+    QStudy study = QStudy.study;
+    Map<Long, Study> studyById = from(study)
+        .where(study.id.in(ids))
         .leftJoin(study.tags, QTag.tag).fetchJoin() // study 기준으로 tag를 join
         .leftJoin(study.zones, QZone.zone).fetchJoin()
-        .leftJoin(study.members, QAccount.account).fetchJoin()
-        .distinct();
-    JPQLQuery<Study> pageableQuery = getQuerydsl().applyPagination(pageable, query);
-    QueryResults<Study> fetchResults = pageableQuery.fetchResults();
-    return new PageImpl<>(fetchResults.getResults(), pageable, fetchResults.getTotal());
+        .distinct()
+        .fetch().stream()
+        .collect(Collectors.toMap(Study::getId, Function.identity()));
+    return ids.stream()
+        .map(studyById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<Study> findPublishedWithTagsAndZonesAfter(Long lastId, int size) {
+    QStudy study = QStudy.study;
+    List<Long> ids = from(study).select(study.id)
+        .where(study.published.isTrue().and(study.id.gt(lastId)))
+        .orderBy(study.id.asc())
+        .limit(size)
+        .fetch();
+    return ids.isEmpty() ? Collections.emptyList() : findWithTagsAndZonesByIds(ids);
   }
 
   // 로그인 전 스터디 조회, account가 가진 tags와 zones를 이용해 study를 조회하기 위해 정의
@@ -2,6 +2,7 @@ package com.project.board.modules.tag.application;
 
 import com.project.board.modules.tag.infra.repository.TagRepository;
 import com.project.board.modules.tag.domain.entity.Tag;
+import com.project.board.modules.whitelist.application.WhitelistService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,13 +12,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TagService {
     private final TagRepository tagRepository;
+    private final WhitelistService whitelistService;
 
-    // 태그 존재할 경우 찾아서 반환, 존재하지 않을 경우 TagRepository에 저장 후 반환
+    // 태그 존재할 경우 찾아서 반환, 존재하지 않을 경우 TagRepository에 저장 후 반환, 새 태그는 자동완성 목록에 반영
     public Tag findOrCreateNew(String tagTitle) {
-        return tagRepository.findByTitle(tagTitle).orElseGet(
-                () -> tagRepository.save(Tag.builder()
-                        .title(tagTitle)
-                        .build())
-        );
+        return tagRepository.findByTitle(tagTitle).orElseGet(() -> {
+            Tag tag = tagRepository.save(Tag.builder()
+                    .title(tagTitle)
+                    .build());
+            whitelistService.tagsChanged();
+            return tag;
+        });
     }
 }
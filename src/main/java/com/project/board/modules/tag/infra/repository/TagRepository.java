@@ -2,11 +2,17 @@ package com.project.board.modules.tag.infra.repository;
 
 import com.project.board.modules.tag.domain.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Transactional(readOnly = true)
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByTitle(String title);
+
+    // 자동완성 목록용, 엔티티 대신 태그 이름만 조회
+    @Query("select t.title from Tag t order by t.title")
+    List<String> findAllTitles();
 }
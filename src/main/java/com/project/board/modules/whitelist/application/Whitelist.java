@@ -0,0 +1,24 @@
+package com.project.board.modules.whitelist.application;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.time.Instant;
+
+/**
+ * JSON으로 직렬화해 둔 자동완성 목록
+ * ETag는 내용의 해시를 사용하므로 서버를 재시작하거나 다른 서버에서 만들어도 내용이 같으면 같은 값
+ */
+@Getter
+public class Whitelist {
+
+    private final byte[] json;
+    private final String etag;
+    private final Instant createdAt;
+
+    Whitelist(byte[] json) {
+        this.json = json;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+        this.createdAt = Instant.now();
+    }
+}
@@ -0,0 +1,95 @@
+package com.project.board.modules.whitelist.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.board.infra.transaction.AfterCommit;
+import com.project.board.modules.account.domain.entity.Zone;
+import com.project.board.modules.tag.infra.repository.TagRepository;
+import com.project.board.modules.zone.application.ZoneService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 관심 주제(태그), 지역 자동완성 목록(tagify whitelist)
+ *
+ * 설정 화면을 열 때마다 전체 목록을 조회해서 JSON으로 변환하지 않도록 변환한 JSON을 메모리에 보관
+ *  - 태그 : TagService.findOrCreateNew에서 새 태그를 저장하면 버전을 올리고, 커밋 이후 다음 요청에서 다시 만듦
+ *           다른 서버에서 추가된 태그는 app.whitelist.tags-max-age-seconds가 지나면 반영
+ *  - 지역 : 시작할 때 등록한 뒤 바뀌지 않으므로 ZoneService가 보관하는 목록으로 처음 한 번만 만듦
+ * WhitelistController가 ETag와 함께 응답하므로 브라우저는 목록이 바뀌지 않으면 304 응답만 받음
+ */
+@Service
+@Transactional(readOnly = true)
+public class WhitelistService {
+
+    private final TagRepository tagRepository;
+    private final ZoneService zoneService;
+    private final ObjectMapper objectMapper;
+    private final Duration tagsMaxAge;
+    private final AtomicLong tagsVersion = new AtomicLong();
+    private volatile VersionedWhitelist tags;
+    private volatile Whitelist zones;
+
+    public WhitelistService(TagRepository tagRepository, ZoneService zoneService, ObjectMapper objectMapper,
+                            @Value("${app.whitelist.tags-max-age-seconds:60}") long tagsMaxAgeSeconds) {
+        this.tagRepository = tagRepository;
+        this.zoneService = zoneService;
+        this.objectMapper = objectMapper;
+        this.tagsMaxAge = Duration.ofSeconds(tagsMaxAgeSeconds);
+    }
+
+    public Whitelist getTags() {
+        long version = tagsVersion.get();
+        VersionedWhitelist current = tags;
+        if (current != null && current.version == version
+                && current.whitelist.getCreatedAt().plus(tagsMaxAge).isAfter(Instant.now())) {
+            return current.whitelist;
+        }
+        // 버전을 먼저 읽고 조회하므로 조회 중에 태그가 추가되면 다음 요청에서 다시 만듦
+        Whitelist whitelist = toWhitelist(tagRepository.findAllTitles());
+        tags = new VersionedWhitelist(version, whitelist);
+        return whitelist;
+    }
+
+    public Whitelist getZones() {
+        Whitelist current = zones;
+        if (current == null) {
+            current = toWhitelist(zoneService.getZones().stream()
+                    .map(Zone::toString)
+                    .collect(Collectors.toList()));
+            zones = current;
+        }
+        return current;
+    }
+
+    // 새 태그 저장 후 호출, 트랜잭션 안이면 커밋 이후에 버전을 올림
+    public void tagsChanged() {
+        AfterCommit.execute(tagsVersion::incrementAndGet);
+    }
+
+    private Whitelist toWhitelist(List<String> values) {
+        try {
+            return new Whitelist(objectMapper.writeValueAsBytes(values));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class VersionedWhitelist {
+        private final long version;
+        private final Whitelist whitelist;
+
+        private VersionedWhitelist(long version, Whitelist whitelist) {
+            this.version = version;
+            this.whitelist = whitelist;
+        }
+    }
+}
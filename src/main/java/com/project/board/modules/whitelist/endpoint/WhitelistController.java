@@ -0,0 +1,41 @@
+package com.project.board.modules.whitelist.endpoint;
+
+import com.project.board.modules.whitelist.application.Whitelist;
+import com.project.board.modules.whitelist.application.WhitelistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 설정 화면의 자동완성 목록 조회
+ *
+ * 목록이 바뀔 수 있으므로 브라우저가 매번 ETag로 확인(no-cache)하게 함
+ * ResponseEntity에 ETag를 지정하면 요청의 If-None-Match와 같을 때 스프링 MVC가 본문 없이 304로 응답
+ */
+@RestController
+@RequiredArgsConstructor
+public class WhitelistController {
+
+    private final WhitelistService whitelistService;
+
+    @GetMapping("/whitelist/tags")
+    public ResponseEntity<byte[]> tags() {
+        return respond(whitelistService.getTags());
+    }
+
+    @GetMapping("/whitelist/zones")
+    public ResponseEntity<byte[]> zones() {
+        return respond(whitelistService.getZones());
+    }
+
+    private ResponseEntity<byte[]> respond(Whitelist whitelist) {
+        return ResponseEntity.ok()
+                .eTag(whitelist.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(whitelist.getJson());
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.board.modules.zone.application;
+
+import com.project.board.modules.account.domain.entity.Zone;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 시작할 때 한 번 만드는 지역 목록, 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 잠금 없이 조회
+ *  - id, (city, province) : HashMap으로 바로 조회
+ *  - 한국어 도시 이름 검색 : 같은 이름의 지역끼리 묶어 이름 순서로 보관(TreeMap), 검색 결과의 순서가 항상 같음
+ * 보관하는 Zone은 준영속 엔티티, 계정/스터디의 지역 컬렉션에 추가, 삭제하는 용도로 사용(Zone.equals는 id로 비교)
+ */
+final class ZoneRegistry {
+
+    private final List<Zone> zones;
+    private final Map<Long, Zone> byId;
+    private final Map<String, Zone> byCityAndProvince;
+    private final Map<String, List<Zone>> byLocalNameOfCity;
+
+    ZoneRegistry(List<Zone> zones) {
+        this.zones = List.copyOf(zones);
+        this.byId = new HashMap<>();
+        this.byCityAndProvince = new HashMap<>();
+        this.byLocalNameOfCity = new TreeMap<>();
+        for (Zone zone : this.zones) {
+            byId.put(zone.getId(), zone);
+            byCityAndProvince.put(key(zone.getCity(), zone.getProvince()), zone);
+        }
+        this.zones.stream()
+                .collect(Collectors.groupingBy(zone -> normalize(zone.getLocalNameOfCity())))
+                .forEach((name, sameName) -> byLocalNameOfCity.put(name, List.copyOf(sameName)));
+    }
+
+    List<Zone> getZones() {
+        return zones;
+    }
+
+    Optional<Zone> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    Optional<Zone> findByCityAndProvince(String city, String province) {
+        return Optional.ofNullable(byCityAndProvince.get(key(city, province)));
+    }
+
+    List<Long> findIdsByLocalNameOfCityContaining(String keyword) {
+        String lowerKeyword = normalize(keyword);
+        return byLocalNameOfCity.entrySet().stream()
+                .filter(entry -> entry.getKey().contains(lowerKeyword))
+                .flatMap(entry -> entry.getValue().stream())
+                .map(Zone::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static String key(String city, String province) {
+        return city + "/" + province;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,39 +2,101 @@ package com.project.board.modules.zone.application;
 
 import com.project.board.modules.account.domain.entity.Zone;
 import com.project.board.modules.zone.infra.repository.ZoneRepository;
-import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * 지역 데이터는 zones_kr.csv에서 한 번 등록한 뒤 바뀌지 않으므로 시작할 때 전체를 읽어 ZoneRegistry로 보관
+ * 지역 추가, 삭제 화면과 검색에서는 DB를 조회하지 않고 ZoneRegistry에서 찾음
+ */
 @Service
-@Transactional
-@RequiredArgsConstructor
 public class ZoneService {
+    private static final String ZONE_DATA = "zones_kr.csv";
+
     private final ZoneRepository zoneRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private volatile ZoneRegistry registry;
+
+    public ZoneService(ZoneRepository zoneRepository, EntityManager entityManager,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.zone.init-batch-size:50}") int batchSize) {
+        this.zoneRepository = zoneRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
 
     /**
      * @PostConstruct : 의존성 주입이 이루어진 후 초기화를 수행하는 메서드
      *
      * @PostConstruct으로 인해 빈 등록 이후에 해당 메서드가 실행
      * Zone Entity 클래스에서 문자열을 Zone Entity로 매핑해 주는 static 메서드는 파일을 읽어와 각 라인을 바로 매핑하기 위해 구현
-     * 매핑한 결과를 ZoneRepository.saveAll 메서드를 이용해 모두 저장해 주면 지역 데이터 초기화 완료
+     *
+     * jar로 패키징하면 클래스패스 리소스는 파일이 아니므로 Resource.getFile() 대신 InputStream으로 읽음
+     * @PostConstruct에서는 @Transactional 프록시가 적용되지 않으므로 TransactionTemplate으로 트랜잭션을 열고
+     * batchSize개마다 flush, clear 해서 INSERT를 JDBC 배치로 묶어 보냄
+     * 등록이 끝나면 전체 지역을 한 번 조회해서 ZoneRegistry 생성
      */
     @PostConstruct
     public void initZoneData() throws IOException {
         if (zoneRepository.count() == 0) {
-            Resource resource = new ClassPathResource("zones_kr.csv");
-            List<String> allLines = Files.readAllLines(resource.getFile().toPath(), StandardCharsets.UTF_8);
-            List<Zone> zones = allLines.stream().map(Zone::map).collect(Collectors.toList());
-            zoneRepository.saveAll(zones);
+            List<Zone> zones = readZones();
+            transactionTemplate.executeWithoutResult(status -> insert(zones));
+        }
+        registry = new ZoneRegistry(zoneRepository.findAll());
+    }
+
+    private List<Zone> readZones() throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(ZONE_DATA).getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .map(Zone::map)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void insert(List<Zone> zones) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        for (int i = 0; i < zones.size(); i++) {
+            entityManager.persist(zones.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
         }
     }
+
+    public List<Zone> getZones() {
+        return registry.getZones();
+    }
+
+    public Optional<Zone> findById(Long id) {
+        return registry.findById(id);
+    }
+
+    public Optional<Zone> findByCityAndProvince(String city, String province) {
+        return registry.findByCityAndProvince(city, province);
+    }
+
+    // 검색용, 한국어 도시 이름에 keyword가 포함된 지역의 id
+    public List<Long> findIdsByLocalNameOfCityContaining(String keyword) {
+        return registry.findIdsByLocalNameOfCityContaining(keyword);
+    }
 }
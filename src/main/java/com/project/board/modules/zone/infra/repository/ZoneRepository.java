@@ -3,9 +3,6 @@ package com.project.board.modules.zone.infra.repository;
 import com.project.board.modules.account.domain.entity.Zone;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
+// 지역 조회는 ZoneService(ZoneRegistry) 사용, 초기 데이터 등록과 전체 조회에만 사용
 public interface ZoneRepository extends JpaRepository<Zone, Long> {
-
-    Optional<Zone> findByCityAndProvince(String cityName, String provinceName);
 }
@@ -0,0 +1,75 @@
+package com.project.board.infra.mail;
+
+import com.project.board.infra.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미리 나눠둔 조각으로 만든 본문이 Thymeleaf로 바로 렌더링한 본문과 같은지 확인
+ */
+class LinkMailTemplateTest {
+
+    private static final String HOST = "http://localhost:8080";
+
+    private TemplateEngine templateEngine;
+    private LinkMailTemplate linkMailTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        AppProperties appProperties = new AppProperties();
+        appProperties.setHost(HOST);
+        linkMailTemplate = new LinkMailTemplate(templateEngine, appProperties);
+    }
+
+    @Test
+    void renderedBodyEqualsThymeleafOutput() {
+        String link = "/check-email-token?token=abc&email=tester@email.com";
+
+        String body = linkMailTemplate.bind(link, "이메일 인증하기", "스터디 서비스를 사용하려면 링크를 클릭하세요.")
+                .render("tester");
+
+        assertThat(body).isEqualTo(thymeleaf("tester", link, "이메일 인증하기", "스터디 서비스를 사용하려면 링크를 클릭하세요."));
+        assertThat(body).contains("href=\"" + HOST + "/check-email-token?token=abc&amp;email=tester@email.com\"");
+    }
+
+    @Test
+    void escapesValuesLikeThymeleaf() {
+        String link = "/study/a\"b'c";
+        String message = "<script>alert('x')</script> & \"모임\"";
+
+        String body = linkMailTemplate.bind(link, "스터디 <바로가기>", message).render("<nick&name>");
+
+        assertThat(body).isEqualTo(thymeleaf("<nick&name>", link, "스터디 <바로가기>", message));
+    }
+
+    @Test
+    void boundBodyRendersEachRecipient() {
+        LinkMailTemplate.LinkMailBody mailBody = linkMailTemplate.bind("/study/test", "스터디 바로가기", "새로운 스터디가 생겼습니다.");
+
+        assertThat(mailBody.render("first")).isEqualTo(thymeleaf("first", "/study/test", "스터디 바로가기", "새로운 스터디가 생겼습니다."));
+        assertThat(mailBody.render("second")).isEqualTo(thymeleaf("second", "/study/test", "스터디 바로가기", "새로운 스터디가 생겼습니다."));
+    }
+
+    private String thymeleaf(String nickname, String link, String linkName, String message) {
+        Context context = new Context();
+        context.setVariable("nickname", nickname);
+        context.setVariable("link", link);
+        context.setVariable("linkName", linkName);
+        context.setVariable("message", message);
+        context.setVariable("host", HOST);
+        return templateEngine.process("mail/simple-link", context);
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.board.infra.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * GreenMail SMTP 서버로 실제 발송해서 도메인별 동시 발송 수를 넘긴 메일도 빠짐없이 전달되는지 확인
+ */
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @TempDir
+    Path spoolDir;
+
+    private MailSpool mailSpool;
+    private ThreadPoolTaskExecutor mailExecutor;
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+        mailSpool = spy(new MailSpool(spoolDir.toString()));
+        mailExecutor = new ThreadPoolTaskExecutor();
+        mailExecutor.setCorePoolSize(4);
+        mailExecutor.setMaxPoolSize(4);
+        mailExecutor.initialize();
+        mailDispatcher = new MailDispatcher(javaMailSender, mailSpool, new SimpleMeterRegistry(), mailExecutor,
+                100, 5, 1, 100, 3, 100);
+        mailDispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailDispatcher.stop();
+        mailExecutor.shutdown();
+    }
+
+    @Test
+    void deliversEveryMailWhenDomainIsSaturated() throws Exception {
+        int count = 30;
+        List<String> recipients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String to = "user" + i + "@" + (i % 2 == 0 ? "a.com" : "b.com");
+            recipients.add(to);
+            mailDispatcher.submit(new EmailMessage(to, "subject " + i, "<p>" + i + "</p>"));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, count)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(count);
+        assertThat(Arrays.stream(received).map(this::recipient)).containsExactlyInAnyOrderElementsOf(recipients);
+        awaitSpoolDrained();
+    }
+
+    @Test
+    void deliversMailLeftInSpool() throws Exception {
+        mailSpool.write(new EmailMessage("left@c.com", "subject", "<p>left</p>"));
+
+        mailDispatcher.recoverSpool();
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, 1)).isTrue();
+        assertThat(recipient(greenMail.getReceivedMessages()[0])).isEqualTo("left@c.com");
+        awaitSpoolDrained();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void skipsMailDeletedAfterListing() throws Exception {
+        Path deleted = mailSpool.write(new EmailMessage("sent@c.com", "subject", "<p>sent</p>"));
+        mailSpool.delete(deleted); // 목록을 만든 뒤 다른 스레드에서 발송을 마치고 지운 경우
+        mailSpool.write(new EmailMessage("left@c.com", "subject", "<p>left</p>"));
+        doAnswer(invocation -> {
+            List<Path> files = new ArrayList<>();
+            files.add(deleted);
+            files.addAll((List<Path>) invocation.callRealMethod());
+            return files;
+        }).doCallRealMethod().when(mailSpool).pending();
+
+        mailDispatcher.recoverSpool();
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, 1)).isTrue();
+        assertThat(recipient(greenMail.getReceivedMessages()[0])).isEqualTo("left@c.com");
+        awaitSpoolDrained();
+        verify(mailSpool, never()).moveToFailed(any());
+        assertThat(spoolDir.resolve("failed")).isEmptyDirectory();
+    }
+
+    private String recipient(MimeMessage message) {
+        try {
+            return message.getRecipients(Message.RecipientType.TO)[0].toString();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 발송 후 스풀 파일 삭제는 발송 스레드에서 이어서 일어나므로 잠시 기다림
+    private void awaitSpoolDrained() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!mailSpool.pending().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(mailSpool.pending()).isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package com.project.board.infra.session;
+
+import com.project.board.infra.config.AppProperties;
+import com.project.board.infra.config.SessionConfig;
+import com.project.board.modules.account.domain.UserAccount;
+import com.project.board.modules.account.infra.projection.AccountCredentials;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 애플리케이션 컨텍스트(서버 두 대)가 같은 DB의 세션 저장소를 사용할 때 로그인 상태를 공유하는지 확인
+ */
+class SessionSharingTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class,
+                    DataSourceTransactionManagerAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+                    ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(AppProperties.class, SessionConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                    "app.session.store=jdbc");
+
+    @Test
+    void sessionSavedOnOneNodeIsVisibleOnAnother() {
+        contextRunner.run(nodeA -> contextRunner.withPropertyValues("app.session.near-cache-ttl-seconds=0").run(nodeB -> {
+            String sessionId = saveLoginSession(repository(nodeA));
+
+            Session session = repository(nodeB).findById(sessionId);
+
+            assertThat(session).isNotNull();
+            SecurityContext context = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+            UserAccount userAccount = (UserAccount) context.getAuthentication().getPrincipal();
+            assertThat(userAccount.getAccountId()).isEqualTo(1L);
+            assertThat(userAccount.getNickname()).isEqualTo("tester");
+        }));
+    }
+
+    @Test
+    void sessionDeletedOnOneNodeIsGoneOnAnother() {
+        contextRunner.run(nodeA -> contextRunner.withPropertyValues("app.session.near-cache-ttl-seconds=0").run(nodeB -> {
+            String sessionId = saveLoginSession(repository(nodeA));
+            assertThat(repository(nodeB).findById(sessionId)).isNotNull();
+
+            repository(nodeA).deleteById(sessionId);
+
+            assertThat(repository(nodeB).findById(sessionId)).isNull();
+        }));
+    }
+
+    @Test
+    void lazyFlushSkipsTouchWithinInterval() {
+        contextRunner.withPropertyValues("app.session.flush=lazy", "app.session.touch-interval-seconds=60").run(node -> {
+            SessionRepository<Session> repository = repository(node);
+            String sessionId = saveLoginSession(repository);
+            long persisted = lastAccessTime(node, sessionId);
+
+            touch(repository, sessionId, 10);
+            assertThat(lastAccessTime(node, sessionId)).isEqualTo(persisted);
+
+            touch(repository, sessionId, 120);
+            assertThat(lastAccessTime(node, sessionId)).isGreaterThan(persisted);
+        });
+    }
+
+    @Test
+    void writeThroughFlushTouchesEverySave() {
+        contextRunner.withPropertyValues("app.session.flush=write-through").run(node -> {
+            SessionRepository<Session> repository = repository(node);
+            String sessionId = saveLoginSession(repository);
+            long persisted = lastAccessTime(node, sessionId);
+
+            touch(repository, sessionId, 10);
+
+            assertThat(lastAccessTime(node, sessionId)).isGreaterThan(persisted);
+        });
+    }
+
+    @Test
+    void sessionTimeoutWithoutUnitIsSeconds() {
+        contextRunner.withPropertyValues("server.servlet.session.timeout=1800").run(node -> {
+            SessionRepository<Session> repository = repository(node);
+            String sessionId = saveLoginSession(repository);
+
+            assertThat(repository.findById(sessionId).getMaxInactiveInterval()).isEqualTo(Duration.ofMinutes(30));
+        });
+    }
+
+    @Test
+    void sessionTimeoutWithUnitIsUsedAsIs() {
+        contextRunner.withPropertyValues("server.servlet.session.timeout=2h").run(node -> {
+            SessionRepository<Session> repository = repository(node);
+            String sessionId = saveLoginSession(repository);
+
+            assertThat(repository.findById(sessionId).getMaxInactiveInterval()).isEqualTo(Duration.ofHours(2));
+        });
+    }
+
+    private String saveLoginSession(SessionRepository<Session> repository) {
+        UserAccount userAccount = UserAccount.from(new AccountCredentials(1L, "tester@email.com", "tester", "password",
+                true, false, true, false, true, false, true));
+        SecurityContext context = new SecurityContextImpl(new UsernamePasswordAuthenticationToken(userAccount, null,
+                userAccount.getAuthorities()));
+        Session session = repository.createSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+        repository.save(session);
+        return session.getId();
+    }
+
+    private void touch(SessionRepository<Session> repository, String sessionId, long afterSeconds) {
+        Session session = repository.findById(sessionId);
+        session.setLastAccessedTime(Instant.now().plus(afterSeconds, ChronoUnit.SECONDS));
+        repository.save(session);
+    }
+
+    private long lastAccessTime(ApplicationContext context, String sessionId) {
+        return context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT LAST_ACCESS_TIME FROM SPRING_SESSION WHERE SESSION_ID = ?", Long.class, sessionId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SessionRepository<Session> repository(ApplicationContext context) {
+        return context.getBean(NearCacheSessionRepository.class);
+    }
+}
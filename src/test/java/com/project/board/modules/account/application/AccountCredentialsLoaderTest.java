@@ -0,0 +1,70 @@
+package com.project.board.modules.account.application;
+
+import com.project.board.infra.config.CacheConfig;
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.infra.projection.AccountCredentials;
+import com.project.board.modules.account.infra.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대소문자를 바꿔 로그인해서 캐시된 인증 정보도 비밀번호 변경 시 삭제되는지 확인
+ */
+@SpringJUnitConfig(classes = {CacheConfig.class, AccountCredentialsLoader.class})
+class AccountCredentialsLoaderTest {
+
+    private static final String EMAIL = "foo@email.com";
+    private static final String NICKNAME = "foo";
+
+    @Autowired AccountCredentialsLoader accountCredentialsLoader;
+    @MockBean AccountRepository accountRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(accountRepository.findCredentialsByUsername(anyString())).thenReturn(credentials());
+        accountCredentialsLoader.evict(Account.with(EMAIL, NICKNAME, "password"));
+        clearInvocations(accountRepository);
+    }
+
+    @Test
+    void usernamesDifferingInCaseShareOneEntry() {
+        accountCredentialsLoader.load("Foo@Email.com");
+        accountCredentialsLoader.load("foo@email.com");
+        accountCredentialsLoader.load("FOO@EMAIL.COM ");
+
+        verify(accountRepository, times(1)).findCredentialsByUsername(anyString());
+    }
+
+    @Test
+    void evictRemovesEntriesCachedWithAnyCase() {
+        accountCredentialsLoader.load("Foo@Email.com");
+        accountCredentialsLoader.load("FOO");
+
+        accountCredentialsLoader.evict(Account.with(EMAIL, NICKNAME, "password"));
+        accountCredentialsLoader.load("Foo@Email.com");
+        accountCredentialsLoader.load("FOO");
+
+        verify(accountRepository, times(4)).findCredentialsByUsername(anyString());
+    }
+
+    @Test
+    void cacheKeyFollowsDatabaseComparison() {
+        assertThat(AccountCredentialsLoader.cacheKey("Foo@Email.com  ")).isEqualTo(EMAIL);
+        assertThat(AccountCredentialsLoader.cacheKey(" Foo")).isEqualTo(" foo");
+    }
+
+    private static AccountCredentials credentials() {
+        return new AccountCredentials(1L, EMAIL, NICKNAME, "{noop}password", true,
+                false, true, false, true, false, true);
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.board.modules.board.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조회 중에 flush가 반복되어도 조회수가 유실되지 않고, 조회가 없는 게시글 항목은 정리되는지 확인
+ */
+class BoardVisitCounterTest {
+
+    private static final long BOARD_ID = 1L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final AtomicLong flushed = new AtomicLong();
+    private final BoardVisitCounter boardVisitCounter = new BoardVisitCounter(jdbcTemplate, new SimpleMeterRegistry());
+
+    @Test
+    void incrementsDuringFlushAreNeverLost() throws Exception {
+        recordFlushedVisits();
+        int threads = 8;
+        int incrementsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean incrementing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < incrementsPerThread; n++) {
+                        boardVisitCounter.increment(BOARD_ID);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                // 증가분이 비어 있는 순간에도 flush가 돌도록 반복(빈 항목 제거 경로 포함)
+                while (incrementing.get()) {
+                    boardVisitCounter.flush();
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+            incrementing.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        boardVisitCounter.flush();
+
+        assertThat(flushed.get()).isEqualTo((long) threads * incrementsPerThread);
+        assertThat(boardVisitCounter.pendingOf(BOARD_ID)).isZero();
+    }
+
+    @Test
+    void idleEntryIsRemovedAndCountsAgain() {
+        recordFlushedVisits();
+        boardVisitCounter.increment(BOARD_ID);
+        boardVisitCounter.flush(); // 증가분 1 반영
+        boardVisitCounter.flush(); // 증가분이 없으므로 항목 제거
+
+        boardVisitCounter.increment(BOARD_ID);
+
+        assertThat(boardVisitCounter.pendingOf(BOARD_ID)).isEqualTo(1);
+        boardVisitCounter.flush();
+        assertThat(flushed.get()).isEqualTo(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordFlushedVisits() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> flushed.addAndGet((Long) args[0]));
+            return new int[batchArgs.size()];
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.board.modules.board.application.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인 검색 결과가 기존 제목/내용 LIKE '%검색어%' 검색과 같은 게시글을 반환하는지 확인
+ */
+class BoardSearchIndexTest {
+
+    private BoardSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BoardSearchIndex();
+        index.put(1L, "스터디 모집", "자바 스터디원을 모집합니다");
+        index.put(2L, "질문", "스프링 트랜잭션 질문입니다");
+        index.put(3L, "모집 스터디", "디자인 패턴");
+    }
+
+    @Test
+    void singleCharacterKeywordMatchesAnySubstring() {
+        assertThat(index.search("집")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("랜")).containsExactly(2L);
+    }
+
+    @Test
+    void bigramsThatAreNotContiguousDoNotMatch() {
+        index.put(4L, "가나 나다", "");
+
+        // 4번 게시글은 "가나", "나다"를 모두 가지고 있지만 "가나다"가 이어서 등장하지 않음
+        assertThat(index.search("가나다")).isEmpty();
+        assertThat(index.search("가나 나")).containsExactly(4L);
+        assertThat(index.search("모집 스터")).containsExactly(3L);
+    }
+
+    @Test
+    void matchesTitleOrContentSubstringIgnoringCase() {
+        index.put(5L, "Spring Boot", "JPA");
+
+        assertThat(index.search("boot")).containsExactly(5L);
+        assertThat(index.search("스터디원")).containsExactly(1L);
+        assertThat(index.search("없는 단어")).isEmpty();
+    }
+
+    @Test
+    void removedBoardIsNotFound() {
+        index.remove(1L);
+
+        assertThat(index.search("집")).containsExactly(3L);
+    }
+}
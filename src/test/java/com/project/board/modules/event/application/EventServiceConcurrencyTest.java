@@ -0,0 +1,164 @@
+package com.project.board.modules.event.application;
+
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.infra.repository.AccountRepository;
+import com.project.board.modules.event.domain.entity.Event;
+import com.project.board.modules.event.domain.entity.EventType;
+import com.project.board.modules.event.endpoint.form.EventForm;
+import com.project.board.modules.event.infra.repository.EnrollmentRepository;
+import com.project.board.modules.event.infra.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선착순 모임에 동시에 참가 신청해도 참가 확정 인원이 정원을 넘지 않는지 확인
+ *
+ * 요청마다 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않고, 요청 하나는 OSIV처럼 모임 조회와 참가 신청을 한 트랜잭션에서 처리
+ */
+@DataJpaTest
+@Import(EventService.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:event-concurrency;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventServiceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EventServiceConcurrencyTest.class);
+    private static final int THREADS = 16;
+
+    @Autowired EventService eventService;
+    @Autowired EventRepository eventRepository;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentEnrollmentsNeverExceedLimit() throws Exception {
+        int limit = 5;
+        int applicants = 400;
+        Event event = saveEvent(limit);
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < applicants; i++) {
+            accounts.add(saveAccount());
+        }
+
+        List<Callable<Void>> requests = new ArrayList<>();
+        for (Account account : accounts) {
+            requests.add(() -> {
+                enroll(event.getId(), account);
+                return null;
+            });
+        }
+        Duration elapsed = runConcurrently(requests);
+        log.info("참가 신청 {}건 처리: {}ms, {}건/s", applicants, elapsed.toMillis(),
+                String.format("%.1f", applicants * 1_000_000_000.0 / Math.max(elapsed.toNanos(), 1)));
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(30)); // 정원이 찬 뒤의 신청이 락을 오래 잡고 있지 않은지 여유 있게 확인
+        assertThat(acceptedCountOf(event)).isEqualTo(limit);
+        assertThat(countEnrollments(event, true)).isEqualTo(limit);
+        assertThat(countEnrollments(event, false)).isEqualTo(applicants - limit);
+    }
+
+    @Test
+    void concurrentDuplicateEnrollmentsKeepOneSeat() throws Exception {
+        Event event = saveEvent(5);
+        Account account = saveAccount();
+
+        List<Callable<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            requests.add(() -> {
+                try {
+                    enroll(event.getId(), account);
+                } catch (AlreadyEnrolledException ignored) {
+                    // 먼저 신청한 요청만 저장되고 나머지는 이미 신청한 것으로 처리
+                }
+                return null;
+            });
+        }
+        runConcurrently(requests);
+
+        assertThat(countEnrollments(event, true)).isEqualTo(1);
+        assertThat(countEnrollments(event, false)).isZero();
+        assertThat(acceptedCountOf(event)).isEqualTo(1);
+    }
+
+    private void enroll(Long eventId, Account account) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventService.enroll(eventRepository.findById(eventId).orElseThrow(), account));
+    }
+
+    // 모든 요청이 끝날 때까지 걸린 시간 반환
+    private Duration runConcurrently(List<Callable<Void>> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (Callable<Void> request : requests) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return request.call();
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(30, TimeUnit.SECONDS); // 예상하지 못한 예외가 있으면 테스트 실패
+            }
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Event saveEvent(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        EventForm eventForm = EventForm.builder()
+                .title("concurrency")
+                .eventType(EventType.FCFS)
+                .endEnrollmentDateTime(now.plusDays(1))
+                .startDateTime(now.plusDays(2))
+                .endDateTime(now.plusDays(3))
+                .limitOfEnrollments(limit)
+                .build();
+        return eventRepository.save(Event.from(eventForm, null, null));
+    }
+
+    private Account saveAccount() {
+        String name = UUID.randomUUID().toString().substring(0, 12);
+        return accountRepository.save(Account.with(name + "@email.com", name, "password"));
+    }
+
+    private int acceptedCountOf(Event event) {
+        return eventRepository.findById(event.getId()).orElseThrow().getAcceptedCount();
+    }
+
+    private long countEnrollments(Event event, boolean accepted) {
+        return jdbcTemplate.queryForObject("select count(*) from enrollment where event_id = ? and accepted = ?",
+                Long.class, event.getId(), accepted);
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.board.modules.notification.infra.repository;
+
+import com.project.board.modules.notification.domain.entity.Notification;
+import com.project.board.modules.notification.domain.entity.NotificationType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * hibernate_sequence로 저장된 기존 알림이 있는 DB에서 새 알림 id가 겹치지 않는지 확인
+ */
+@DataJpaTest
+@Import(NotificationSequenceInitializer.class)
+class NotificationSequenceInitializerTest {
+
+    @Autowired NotificationSequenceInitializer notificationSequenceInitializer;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void newNotificationIdsStartAfterExistingIds() throws Exception {
+        jdbcTemplate.update("insert into notification (id, checked) values (?, false)", 1000L);
+
+        notificationSequenceInitializer.seed();
+        Notification saved = notificationRepository.saveAndFlush(Notification.from("title", "/study/test", false,
+                LocalDateTime.now(), "message", null, NotificationType.STUDY_CREATED));
+
+        assertThat(saved.getId()).isGreaterThan(1000L);
+    }
+}
@@ -0,0 +1,148 @@
+package com.project.board.modules.outbox.infra.repository;
+
+import com.project.board.modules.outbox.domain.entity.OutboxEventType;
+import com.project.board.modules.outbox.domain.entity.OutboxMessage;
+import com.project.board.modules.outbox.domain.entity.OutboxStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutboxRelay가 처리할 메시지를 고르고 점유하는 쿼리 확인
+ */
+@DataJpaTest
+class OutboxMessageRepositoryTest {
+
+    @Autowired OutboxMessageRepository outboxMessageRepository;
+    @Autowired TestEntityManager entityManager;
+
+    @Test
+    void messagesWaitingForRetryDoNotBlockOtherStudies() {
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        OutboxMessage retrying = save(1L);
+        retrying.failed("error", now.plusMinutes(10), 10);
+        OutboxMessage sameStudy = save(1L);
+        OutboxMessage otherStudy = save(2L);
+        entityManager.flush();
+
+        List<Long> dueIds = outboxMessageRepository.findDueIds(OutboxStatus.PENDING, now, PageRequest.of(0, 1));
+
+        assertThat(dueIds).containsExactly(otherStudy.getId());
+        assertThat(dueIds).doesNotContain(retrying.getId(), sameStudy.getId());
+    }
+
+    @Test
+    void messageIsClaimedByOneRelayOnly() {
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        OutboxMessage first = save(1L);
+        OutboxMessage second = save(2L);
+        entityManager.flush();
+        List<Long> seenByBoth = outboxMessageRepository.findDueIds(OutboxStatus.PENDING, now, PageRequest.of(0, 10));
+
+        int claimedByA = outboxMessageRepository.claim(seenByBoth, OutboxStatus.PENDING, "relay-a:1", now, now.plusMinutes(5));
+        int claimedByB = outboxMessageRepository.claim(seenByBoth, OutboxStatus.PENDING, "relay-b:1", now, now.plusMinutes(5));
+        entityManager.clear();
+
+        assertThat(claimedByA).isEqualTo(2);
+        assertThat(claimedByB).isZero();
+        assertThat(outboxMessageRepository.findByLockedByAndStatusOrderByIdAsc("relay-a:1", OutboxStatus.PENDING))
+                .extracting(OutboxMessage::getId)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(outboxMessageRepository.findDueIds(OutboxStatus.PENDING, now, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void laterMessageWaitsWhileEarlierMessageIsClaimedElsewhere() {
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        OutboxMessage first = save(1L);
+        OutboxMessage second = save(1L);
+        entityManager.flush();
+        outboxMessageRepository.claim(List.of(first.getId()), OutboxStatus.PENDING, "relay-a:1", now, now.plusMinutes(5));
+        outboxMessageRepository.claim(List.of(second.getId()), OutboxStatus.PENDING, "relay-b:1", now, now.plusMinutes(5));
+        entityManager.clear();
+
+        assertThat(outboxMessageRepository.existsEarlierPending(1L, OutboxStatus.PENDING, second.getId(), "relay-b:1")).isTrue();
+        assertThat(outboxMessageRepository.existsEarlierPending(1L, OutboxStatus.PENDING, first.getId(), "relay-a:1")).isFalse();
+    }
+
+    @Test
+    void expiredClaimCanBeTakenOver() {
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        OutboxMessage message = save(1L);
+        entityManager.flush();
+        outboxMessageRepository.claim(List.of(message.getId()), OutboxStatus.PENDING, "relay-a:1", now, now.plusMinutes(5));
+
+        LocalDateTime afterLease = now.plusMinutes(6);
+        int claimed = outboxMessageRepository.claim(List.of(message.getId()), OutboxStatus.PENDING, "relay-b:1",
+                afterLease, afterLease.plusMinutes(5));
+
+        assertThat(claimed).isEqualTo(1);
+    }
+
+    @Test
+    void checkpointExtendsLeaseOnlyForOwner() {
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        OutboxMessage message = save(1L);
+        entityManager.flush();
+        outboxMessageRepository.claim(List.of(message.getId()), OutboxStatus.PENDING, "relay-a:1", now, now.plusMinutes(5));
+
+        int byOwner = outboxMessageRepository.saveCheckpoint(message.getId(), 10L, "relay-a:1", now.plusMinutes(10));
+        int byOther = outboxMessageRepository.saveCheckpoint(message.getId(), 20L, "relay-b:1", now.plusMinutes(20));
+        entityManager.clear();
+
+        assertThat(byOwner).isEqualTo(1);
+        assertThat(byOther).isZero();
+        OutboxMessage found = outboxMessageRepository.findById(message.getId()).orElseThrow();
+        assertThat(found.getLastAccountId()).isEqualTo(10L);
+        assertThat(found.getLockedUntil()).isAfter(now.plusMinutes(9));
+        // 연장한 점유 시간 동안은 다른 서버가 가져가지 못함
+        LocalDateTime afterFirstLease = now.plusMinutes(6);
+        assertThat(outboxMessageRepository.claim(List.of(message.getId()), OutboxStatus.PENDING, "relay-b:1",
+                afterFirstLease, afterFirstLease.plusMinutes(5))).isZero();
+    }
+
+    @Test
+    void resultOfExpiredLeaseDoesNotOverwriteNewOwner() {
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        OutboxMessage message = save(1L);
+        entityManager.flush();
+        outboxMessageRepository.claim(List.of(message.getId()), OutboxStatus.PENDING, "relay-a:1", now, now.plusMinutes(5));
+        LocalDateTime afterLease = now.plusMinutes(6);
+        outboxMessageRepository.claim(List.of(message.getId()), OutboxStatus.PENDING, "relay-b:1", afterLease, afterLease.plusMinutes(5));
+        entityManager.clear();
+
+        assertThat(outboxMessageRepository.renewLease(message.getId(), "relay-a:1", afterLease, afterLease.plusMinutes(5))).isZero();
+        OutboxMessage staleCopy = outboxMessageRepository.findById(message.getId()).orElseThrow();
+        entityManager.clear();
+        staleCopy.published(afterLease);
+        int completedByA = outboxMessageRepository.complete(staleCopy, "relay-a:1");
+        int releasedByA = outboxMessageRepository.release(List.of(message.getId()), "relay-a:1");
+        entityManager.clear();
+
+        assertThat(completedByA).isZero();
+        assertThat(releasedByA).isZero();
+        OutboxMessage found = outboxMessageRepository.findById(message.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(found.getLockedBy()).isEqualTo("relay-b:1");
+
+        OutboxMessage ownerCopy = outboxMessageRepository.findById(message.getId()).orElseThrow();
+        entityManager.clear();
+        ownerCopy.published(afterLease);
+        assertThat(outboxMessageRepository.complete(ownerCopy, "relay-b:1")).isEqualTo(1);
+        entityManager.clear();
+        found = outboxMessageRepository.findById(message.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(found.getLockedBy()).isNull();
+    }
+
+    private OutboxMessage save(Long studyId) {
+        return outboxMessageRepository.save(OutboxMessage.of(OutboxEventType.STUDY_UPDATED, studyId, null, "message"));
+    }
+}
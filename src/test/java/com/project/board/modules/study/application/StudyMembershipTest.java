@@ -0,0 +1,150 @@
+package com.project.board.modules.study.application;
+
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.image.application.ImageStore;
+import com.project.board.modules.study.application.StudyMembership.MemberPage;
+import com.project.board.modules.study.application.search.StudySearchEngine;
+import com.project.board.modules.study.domain.StudyAspect;
+import com.project.board.modules.study.domain.StudyView;
+import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.study.endpoint.form.StudyForm;
+import com.project.board.modules.study.infra.projection.StudyMember;
+import com.project.board.modules.study.infra.repository.StudyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 목록 keyset 페이징과 연결 테이블에 직접 추가, 삭제하는 가입/탈퇴의 회원 수 확인
+ */
+@DataJpaTest(properties = "app.study.member-page-size=2")
+@Import({StudyMembership.class, StudyService.class})
+class StudyMembershipTest {
+
+    @Autowired StudyMembership studyMembership;
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired TestEntityManager entityManager;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @MockBean ImageStore imageStore;
+    @MockBean StudySearchEngine studySearchEngine;
+
+    private Study study;
+
+    @BeforeEach
+    void setUp() {
+        Account manager = saveAccount("manager");
+        study = Study.from(StudyForm.builder()
+                .path("members")
+                .title("members")
+                .shortDescription("short")
+                .fullDescription("full")
+                .build());
+        study.addManager(manager);
+        entityManager.persist(study);
+        entityManager.flush();
+    }
+
+    @Test
+    void membersArePagedByAccountId() {
+        List<Long> memberIds = joinMembers(5);
+
+        MemberPage first = studyMembership.getMembers(view(), null);
+        MemberPage second = studyMembership.getMembers(view(), first.getNextAfter());
+        MemberPage last = studyMembership.getMembers(view(), second.getNextAfter());
+
+        assertThat(accountIds(first)).containsExactly(memberIds.get(0), memberIds.get(1));
+        assertThat(first.getNextAfter()).isEqualTo(memberIds.get(1));
+        assertThat(accountIds(second)).containsExactly(memberIds.get(2), memberIds.get(3));
+        assertThat(second.getNextAfter()).isEqualTo(memberIds.get(3));
+        assertThat(accountIds(last)).containsExactly(memberIds.get(4));
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    // 마지막 페이지가 꽉 차 있으면 다음 페이지가 없다고 판단해서 빈 페이지를 요청하지 않음
+    @Test
+    void fullLastPageHasNoNext() {
+        List<Long> memberIds = joinMembers(4);
+
+        MemberPage first = studyMembership.getMembers(view(), null);
+        MemberPage second = studyMembership.getMembers(view(), first.getNextAfter());
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(accountIds(second)).containsExactly(memberIds.get(2), memberIds.get(3));
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void emptyStudyHasNoMembers() {
+        MemberPage page = studyMembership.getMembers(view(), null);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void joinAndLeaveKeepMemberCount() {
+        Account account = saveAccount("member");
+
+        studyService.addMember(study, account);
+        studyService.addMember(study, account); // 이미 가입한 회원은 다시 추가하지 않음
+        assertThat(memberCountInDb()).isEqualTo(1);
+        assertThat(study.getMemberCount()).isEqualTo(1);
+        assertThat(studyRepository.isMember(study.getId(), account.getId())).isTrue();
+
+        studyService.removeMember(study, account);
+        studyService.removeMember(study, account); // 탈퇴한 회원은 다시 감소시키지 않음
+        assertThat(memberCountInDb()).isZero();
+        assertThat(study.getMemberCount()).isZero();
+        assertThat(studyRepository.isMember(study.getId(), account.getId())).isFalse();
+    }
+
+    @Test
+    void memberCountMatchesJoinTable() {
+        List<Long> memberIds = joinMembers(3);
+        Account leaving = entityManager.find(Account.class, memberIds.get(1));
+
+        studyService.removeMember(study, leaving);
+
+        Long rows = jdbcTemplate.queryForObject("select count(*) from study_members where study_id = ?",
+                Long.class, study.getId());
+        assertThat(memberCountInDb()).isEqualTo(rows.intValue()).isEqualTo(2);
+    }
+
+    private List<Long> joinMembers(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Account account = saveAccount("member" + i);
+            studyService.addMember(study, account);
+            ids.add(account.getId());
+        }
+        return ids;
+    }
+
+    private Account saveAccount(String nickname) {
+        return entityManager.persist(Account.with(nickname + "@email.com", nickname, "password"));
+    }
+
+    private StudyView view() {
+        return StudyView.from(studyRepository.findByPathWith(study.getPath(), StudyAspect.values()));
+    }
+
+    private int memberCountInDb() {
+        return jdbcTemplate.queryForObject("select member_count from study where id = ?", Integer.class, study.getId());
+    }
+
+    private static List<Long> accountIds(MemberPage page) {
+        return page.getContent().stream().map(StudyMember::getAccountId).collect(Collectors.toList());
+    }
+}
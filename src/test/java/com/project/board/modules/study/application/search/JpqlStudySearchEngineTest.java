@@ -0,0 +1,65 @@
+package com.project.board.modules.study.application.search;
+
+import com.project.board.modules.account.domain.entity.Zone;
+import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.study.endpoint.form.StudyForm;
+import com.project.board.modules.tag.domain.entity.Tag;
+import com.project.board.modules.zone.application.ZoneService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지역 이름을 DB에서 비교하지 않고 ZoneService에서 찾은 지역 id로 검색해도 지역 이름으로 스터디를 찾는지 확인
+ */
+@DataJpaTest(properties = "app.study.search-mode=jpql")
+@Import({ZoneService.class, JpqlStudySearchEngine.class})
+class JpqlStudySearchEngineTest {
+
+    @Autowired JpqlStudySearchEngine jpqlStudySearchEngine;
+    @Autowired ZoneService zoneService;
+    @Autowired TestEntityManager entityManager;
+
+    @Test
+    void findsStudiesByZoneName() {
+        Zone seoul = zoneService.findByCityAndProvince("Seoul", "none").orElseThrow();
+        Zone suwon = zoneService.findByCityAndProvince("Suwon", "Gyeonggi").orElseThrow();
+        saveStudy("in-seoul", "spring", seoul, null);
+        saveStudy("in-suwon", "spring", suwon, null);
+        saveStudy("title-only", "서울 모임", suwon, null);
+        saveStudy("tag-only", "java", suwon, "서울");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(search("서울")).containsExactly("in-seoul", "tag-only", "title-only");
+        assertThat(search("특별시")).containsExactly("in-seoul");
+        assertThat(search("수원")).containsExactly("in-suwon", "tag-only", "title-only");
+        assertThat(search("부산")).isEmpty();
+    }
+
+    private Iterable<String> search(String keyword) {
+        return jpqlStudySearchEngine.search(keyword, PageRequest.of(0, 10, Sort.by("path")))
+                .getStudyPage().map(Study::getPath).getContent();
+    }
+
+    private void saveStudy(String path, String title, Zone zone, String tagTitle) {
+        Study study = Study.from(StudyForm.builder()
+                .path(path)
+                .title(title)
+                .shortDescription("short")
+                .fullDescription("full")
+                .build());
+        study.addZone(zone);
+        if (tagTitle != null) {
+            study.addTag(entityManager.persist(Tag.builder().title(tagTitle).build()));
+        }
+        study.publish();
+        entityManager.persist(study);
+    }
+}
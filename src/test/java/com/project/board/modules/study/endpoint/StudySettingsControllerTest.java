@@ -0,0 +1,141 @@
+package com.project.board.modules.study.endpoint;
+
+import com.project.board.modules.account.domain.UserAccount;
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.infra.repository.AccountRepository;
+import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.study.endpoint.form.StudyForm;
+import com.project.board.modules.study.infra.repository.SqlCaptureInspector;
+import com.project.board.modules.study.infra.repository.StudyRepository;
+import com.project.board.modules.tag.domain.entity.Tag;
+import com.project.board.modules.tag.infra.repository.TagRepository;
+import com.project.board.modules.zone.application.ZoneService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 스터디 설정 화면마다 스터디와 연관 컬렉션을 필요한 만큼만 조회하는지 Hibernate 통계로 확인
+ *
+ * 설정 화면의 스터디 정보는 캐시된 StudyView를 사용하므로 한 번 요청해서 캐시를 채운 뒤 두 번째 요청을 측정
+ * 요청은 테스트 트랜잭션 없이 실행해서 영속성 컨텍스트에 남은 엔티티가 조회 횟수에 영향을 주지 않도록 함
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.project.board.modules.study.infra.repository.SqlCaptureInspector"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class StudySettingsControllerTest {
+
+    private static final String STUDY = Study.class.getName();
+    private static final Pattern STUDY_TABLE = Pattern.compile("\\bstudy\\b");
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AccountRepository accountRepository;
+    @Autowired StudyRepository studyRepository;
+    @Autowired TagRepository tagRepository;
+    @Autowired ZoneService zoneService;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private UserAccount manager;
+    private String path;
+
+    @BeforeEach
+    void setUp() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        path = "settings-" + name;
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Account account = accountRepository.save(Account.with(name + "@email.com", name, "password"));
+            Account member = accountRepository.save(Account.with(name + "-m@email.com", name + "-m", "password"));
+            Study study = Study.from(StudyForm.builder()
+                    .path(path)
+                    .title("settings")
+                    .shortDescription("short")
+                    .fullDescription("full")
+                    .build());
+            study.addManager(account);
+            study.addTag(tagRepository.save(Tag.builder().title("tag-" + name).build()));
+            study.addZone(zoneService.getZones().get(0));
+            studyRepository.save(study);
+            studyRepository.flush();
+            studyRepository.insertMember(study.getId(), member.getId());
+            manager = UserAccount.from(account);
+        });
+    }
+
+    // 관리자 확인(존재 여부 쿼리) 한 번만 스터디 테이블을 조회하고 스터디 엔티티와 컬렉션은 조회하지 않음
+    @ParameterizedTest
+    @ValueSource(strings = {"banner", "description", "tags", "study"})
+    void settingsPageLoadsNoCollections(String page) throws Exception {
+        requestTwiceAndMeasureLast(page);
+
+        assertThat(studyStatementCount()).isEqualTo(1);
+        assertThat(statistics().getEntityStatistics(STUDY).getLoadCount()).isZero();
+        assertCollectionLoads(0, 0, 0, 0);
+    }
+
+    // 관리자 확인 + 스터디 조회 + 지역 컬렉션 fetchJoin
+    @Test
+    void zonesPageLoadsZonesOnly() throws Exception {
+        requestTwiceAndMeasureLast("zones");
+
+        assertThat(studyStatementCount()).isEqualTo(3);
+        assertThat(statistics().getEntityStatistics(STUDY).getLoadCount()).isEqualTo(1);
+        assertCollectionLoads(0, 1, 0, 0);
+    }
+
+    private void requestTwiceAndMeasureLast(String page) throws Exception {
+        request(page);
+        statistics().clear();
+        SqlCaptureInspector.clear();
+        request(page);
+    }
+
+    private void request(String page) throws Exception {
+        mockMvc.perform(get("/study/{path}/settings/{page}", path, page).with(user(manager)))
+                .andExpect(status().isOk());
+    }
+
+    private void assertCollectionLoads(long tags, long zones, long managers, long members) {
+        assertThat(collectionLoads("tags")).as("tags").isEqualTo(tags);
+        assertThat(collectionLoads("zones")).as("zones").isEqualTo(zones);
+        assertThat(collectionLoads("managers")).as("managers").isEqualTo(managers);
+        assertThat(collectionLoads("members")).as("members").isEqualTo(members);
+    }
+
+    private long collectionLoads(String collection) {
+        return statistics().getCollectionStatistics(STUDY + "." + collection).getLoadCount();
+    }
+
+    private long studyStatementCount() {
+        return SqlCaptureInspector.statements().stream()
+                .filter(sql -> STUDY_TABLE.matcher(sql).find())
+                .count();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
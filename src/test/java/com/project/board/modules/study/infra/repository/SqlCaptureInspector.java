@@ -0,0 +1,51 @@
+package com.project.board.modules.study.infra.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate가 실행하는 SQL을 기록하는 StatementInspector
+ * hibernate.session_factory.statement_inspector로 지정하면 Hibernate가 직접 생성하므로 기록은 static으로 보관
+ * 스케줄러 등 다른 스레드의 SQL이 섞이지 않도록 현재 스레드에서 실행한 SQL만 반환
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<Statement> statements = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (statements) {
+            statements.add(new Statement(Thread.currentThread(), sql.toLowerCase()));
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    public static List<String> statements() {
+        Thread current = Thread.currentThread();
+        synchronized (statements) {
+            return statements.stream()
+                    .filter(statement -> statement.thread == current)
+                    .map(statement -> statement.sql)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static class Statement {
+        private final Thread thread;
+        private final String sql;
+
+        Statement(Thread thread, String sql) {
+            this.thread = thread;
+            this.sql = sql;
+        }
+    }
+}
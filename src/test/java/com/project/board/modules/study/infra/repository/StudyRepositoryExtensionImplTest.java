@@ -0,0 +1,235 @@
+package com.project.board.modules.study.infra.repository;
+
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.domain.entity.Zone;
+import com.project.board.modules.study.domain.StudyAspect;
+import com.project.board.modules.study.domain.entity.Study;
+import com.project.board.modules.study.endpoint.form.StudyForm;
+import com.project.board.modules.tag.domain.entity.Tag;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스터디 검색이 DB에서 페이징하고, 페이지 순서와 연관 컬렉션을 유지하는지 확인
+ * 경로로 조회할 때 지정한 컬렉션만 컬렉션마다 쿼리 하나로 채우는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.project.board.modules.study.infra.repository.SqlCaptureInspector",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class StudyRepositoryExtensionImplTest {
+
+    @Autowired StudyRepository studyRepository;
+    @Autowired TestEntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private Tag tag;
+    private Zone zone;
+
+    @BeforeEach
+    void setUp() {
+        tag = entityManager.persist(Tag.builder().title("spring").build());
+        zone = entityManager.persist(Zone.builder().city("Seoul").localNameOfCity("서울").province("none").build());
+    }
+
+    @Test
+    void findByKeywordPagesInDatabase() {
+        for (int i : new int[]{3, 1, 5, 2, 4}) {
+            saveStudy("spring-" + i, "spring " + i, true);
+        }
+        saveStudy("spring-6", "spring 6", false);
+        saveStudy("java-1", "java 1", true);
+        entityManager.flush();
+        entityManager.clear();
+        SqlCaptureInspector.clear();
+
+        Page<Study> page = studyRepository.findByKeyword("spring", Collections.emptyList(),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "title")));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(Study::getTitle).containsExactly("spring 5", "spring 4");
+        assertThat(page.getContent()).allSatisfy(study -> {
+            assertThat(Hibernate.isInitialized(study.getTags())).isTrue();
+            assertThat(Hibernate.isInitialized(study.getZones())).isTrue();
+            assertThat(study.getTags()).extracting(Tag::getTitle).containsExactly("spring");
+            assertThat(study.getZones()).containsExactly(zone);
+        });
+
+        List<String> statements = SqlCaptureInspector.statements();
+        // 1. id 조회에 limit 적용, 2. 페이지의 id만 관심 주제, 지역과 함께 조회, 3. 전체 개수 조회
+        assertThat(statements).hasSize(3);
+        assertThat(statements.get(0)).contains("limit");
+        assertThat(statements.get(1)).contains(" join ").doesNotContain("limit");
+        assertThat(statements.get(2)).contains("count(");
+    }
+
+    @Test
+    void findByKeywordReturnsLastPage() {
+        for (int i = 1; i <= 5; i++) {
+            saveStudy("spring-" + i, "spring " + i, true);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<Study> page = studyRepository.findByKeyword("SPRING", Collections.emptyList(),
+                PageRequest.of(2, 2, Sort.by(Sort.Direction.DESC, "title")));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(Study::getTitle).containsExactly("spring 1");
+    }
+
+    @Test
+    void findWithTagsAndZonesByIdsKeepsIdOrder() {
+        Long first = saveStudy("spring-1", "spring 1", true).getId();
+        Long second = saveStudy("spring-2", "spring 2", true).getId();
+        Long third = saveStudy("spring-3", "spring 3", true).getId();
+        entityManager.flush();
+        entityManager.clear();
+        SqlCaptureInspector.clear();
+
+        List<Long> ids = Arrays.asList(second, third, first);
+        List<Study> studies = studyRepository.findWithTagsAndZonesByIds(ids);
+
+        assertThat(studies.stream().map(Study::getId).collect(Collectors.toList())).isEqualTo(ids);
+        assertThat(studies).allSatisfy(study -> assertThat(study.getTags()).hasSize(1));
+        assertThat(SqlCaptureInspector.statements()).hasSize(1);
+    }
+
+    @Test
+    void findByPathWithoutAspectsLoadsStudyOnly() {
+        saveStudyWithManagerAndMember();
+
+        Study study = findByPathWith();
+
+        assertThat(study.getPath()).isEqualTo("spring-1");
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        assertInitialized(study);
+    }
+
+    @ParameterizedTest
+    @EnumSource(StudyAspect.class)
+    void findByPathWithLoadsOnlyRequestedAspect(StudyAspect aspect) {
+        saveStudyWithManagerAndMember();
+
+        Study study = findByPathWith(aspect);
+
+        // 스터디 조회 1번 + 지정한 컬렉션 1번
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(2);
+        assertInitialized(study, aspect);
+        assertThat(collectionOf(study, aspect)).hasSize(1);
+    }
+
+    @Test
+    void findByPathWithAllAspectsRunsOneQueryPerAspect() {
+        saveStudyWithManagerAndMember();
+
+        Study study = findByPathWith(StudyAspect.values());
+
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1 + StudyAspect.values().length);
+        assertInitialized(study, StudyAspect.values());
+        // 컬렉션을 채운 뒤에는 추가 쿼리 없이 사용
+        for (StudyAspect aspect : StudyAspect.values()) {
+            assertThat(collectionOf(study, aspect)).hasSize(1);
+        }
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1 + StudyAspect.values().length);
+    }
+
+    @Test
+    void findByIdWithLoadsRequestedAspects() {
+        Long id = saveStudyWithManagerAndMember();
+        statistics().clear();
+
+        Study study = studyRepository.findByIdWith(id, StudyAspect.MANAGERS, StudyAspect.MEMBERS);
+
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(3);
+        assertInitialized(study, StudyAspect.MANAGERS, StudyAspect.MEMBERS);
+    }
+
+    @Test
+    void findByPathWithReturnsNullForUnknownPath() {
+        statistics().clear();
+
+        assertThat(studyRepository.findByPathWith("unknown", StudyAspect.values())).isNull();
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Long saveStudyWithManagerAndMember() {
+        Account manager = entityManager.persist(Account.with("manager@email.com", "manager", "password"));
+        Account member = entityManager.persist(Account.with("member@email.com", "member", "password"));
+        Study study = saveStudy("spring-1", "spring 1", true);
+        study.addManager(manager);
+        entityManager.flush();
+        studyRepository.insertMember(study.getId(), member.getId());
+        entityManager.clear();
+        return study.getId();
+    }
+
+    private Study findByPathWith(StudyAspect... aspects) {
+        statistics().clear();
+        return studyRepository.findByPathWith("spring-1", aspects);
+    }
+
+    private void assertInitialized(Study study, StudyAspect... loaded) {
+        List<StudyAspect> loadedAspects = Arrays.asList(loaded);
+        for (StudyAspect aspect : StudyAspect.values()) {
+            assertThat(Hibernate.isInitialized(collectionOf(study, aspect)))
+                    .as(aspect.name())
+                    .isEqualTo(loadedAspects.contains(aspect));
+        }
+    }
+
+    private static Set<?> collectionOf(Study study, StudyAspect aspect) {
+        switch (aspect) {
+            case TAGS:
+                return study.getTags();
+            case ZONES:
+                return study.getZones();
+            case MANAGERS:
+                return study.getManagers();
+            case MEMBERS:
+                return study.getMembers();
+            default:
+                throw new IllegalArgumentException(aspect.name());
+        }
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Study saveStudy(String path, String title, boolean published) {
+        Study study = Study.from(StudyForm.builder()
+                .path(path)
+                .title(title)
+                .shortDescription("short")
+                .fullDescription("full")
+                .build());
+        study.addTag(tag);
+        study.addZone(zone);
+        if (published) {
+            study.publish();
+        }
+        return entityManager.persist(study);
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.board.modules.whitelist.endpoint;
+
+import com.project.board.modules.account.domain.UserAccount;
+import com.project.board.modules.account.domain.entity.Account;
+import com.project.board.modules.account.infra.repository.AccountRepository;
+import com.project.board.modules.tag.application.TagService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 자동완성 목록이 바뀌지 않으면 304, 새 태그가 저장되면 새 ETag로 응답하는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class WhitelistControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AccountRepository accountRepository;
+    @Autowired TagService tagService;
+
+    private UserAccount userAccount;
+
+    @BeforeEach
+    void setUp() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        userAccount = UserAccount.from(accountRepository.save(Account.with(name + "@email.com", name, "password")));
+    }
+
+    @Test
+    void unchangedTagsAnswerNotModified() throws Exception {
+        String etag = etagOf("/whitelist/tags");
+
+        mockMvc.perform(get("/whitelist/tags").with(user(userAccount)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void newTagChangesEtag() throws Exception {
+        String etag = etagOf("/whitelist/tags");
+        String title = "tag-" + UUID.randomUUID().toString().substring(0, 8);
+
+        tagService.findOrCreateNew(title);
+
+        MvcResult result = mockMvc.perform(get("/whitelist/tags").with(user(userAccount))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(result.getResponse().getContentAsString()).contains(title);
+    }
+
+    @Test
+    void existingTagKeepsEtag() throws Exception {
+        String title = "tag-" + UUID.randomUUID().toString().substring(0, 8);
+        tagService.findOrCreateNew(title);
+        String etag = etagOf("/whitelist/tags");
+
+        tagService.findOrCreateNew(title);
+
+        mockMvc.perform(get("/whitelist/tags").with(user(userAccount)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void zonesAnswerNotModified() throws Exception {
+        String etag = etagOf("/whitelist/zones");
+
+        mockMvc.perform(get("/whitelist/zones").with(user(userAccount)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    private String etagOf(String url) throws Exception {
+        return mockMvc.perform(get(url).with(user(userAccount)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.board.modules.zone.application;
+
+import com.project.board.modules.account.domain.entity.Zone;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 시작할 때 만든 지역 목록에서 id, (city, province), 도시 이름으로 찾는지 확인
+ */
+class ZoneRegistryTest {
+
+    private final Zone seoul = new Zone(1L, "Seoul", "서울특별시", "none");
+    private final Zone gwangjuGyeonggi = new Zone(2L, "Gwangju", "광주시", "Gyeonggi");
+    private final Zone gwangju = new Zone(3L, "Gwangju", "광주광역시", "none");
+    private final Zone suwon = new Zone(4L, "Suwon", "수원시", "Gyeonggi");
+    private final ZoneRegistry zoneRegistry = new ZoneRegistry(List.of(seoul, gwangjuGyeonggi, gwangju, suwon));
+
+    @Test
+    void findById() {
+        assertThat(zoneRegistry.findById(3L)).containsSame(gwangju);
+        assertThat(zoneRegistry.findById(99L)).isEmpty();
+    }
+
+    @Test
+    void findByCityAndProvince() {
+        // 같은 도시 이름은 province로 구분
+        assertThat(zoneRegistry.findByCityAndProvince("Gwangju", "Gyeonggi")).containsSame(gwangjuGyeonggi);
+        assertThat(zoneRegistry.findByCityAndProvince("Gwangju", "none")).containsSame(gwangju);
+        assertThat(zoneRegistry.findByCityAndProvince("Gwangju", "Jeolla")).isEmpty();
+        assertThat(zoneRegistry.findByCityAndProvince("Busan", "none")).isEmpty();
+    }
+
+    @Test
+    void findIdsByLocalNameOfCityContaining() {
+        assertThat(zoneRegistry.findIdsByLocalNameOfCityContaining("광주")).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(zoneRegistry.findIdsByLocalNameOfCityContaining("특별")).containsExactly(1L);
+        assertThat(zoneRegistry.findIdsByLocalNameOfCityContaining(" 수원 ")).containsExactly(4L);
+        assertThat(zoneRegistry.findIdsByLocalNameOfCityContaining("부산")).isEmpty();
+    }
+
+    @Test
+    void zonesAreImmutable() {
+        assertThat(zoneRegistry.getZones()).containsExactly(seoul, gwangjuGyeonggi, gwangju, suwon);
+        assertThatThrownBy(() -> zoneRegistry.getZones().add(seoul))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}